@@ -0,0 +1,117 @@
+package com.bootstrap.feature.management.appconfig;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.azure.spring.cloud.feature.manager.FeatureManagementConfigProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.support.GenericApplicationContext;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import com.bootstrap.feature.management.FeatureLookup;
+
+/**
+ * Compares blocking {@linkplain FeatureLookup#lookup(FeatureLookup.FeatureOptions)} evaluated on the caller thread
+ * against former publisher based path hopping onto single dedicated scheduler thread and blocking on the result.
+ * <br/>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeatureLookupBenchmark {
+
+    private static final String FEATURE_NAME = "benchmark_feature";
+
+    private Scheduler singleScheduler;
+
+    private GenericApplicationContext context;
+
+    private CustomFeatureManager customFeatureManager;
+
+    private FeatureLookup featureLookup;
+
+    private FeatureLookup.FeatureOptions options;
+
+    @Setup
+    public void setup() {
+        singleScheduler = Schedulers.newSingle("benchmark-lookup", true);
+
+        customFeatureManager = CustomFeatureManager.create(new FeatureManagementConfigProperties(), null);
+        customFeatureManager.putAll(Map.of(FEATURE_NAME, Map.of("enabled-for", Map.of("0", Map.of(
+                "name", FeatureEvaluator.TARGETING_FILTER_NAME,
+                "parameters", Map.of("Audience", Map.of("DefaultRolloutPercentage", "50")))))));
+
+        context = new GenericApplicationContext();
+        context.registerBean(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY, CustomFeatureManager.class,
+                () -> customFeatureManager);
+        context.refresh();
+
+        featureLookup = new FeatureLookupImpl(null, context, false);
+        options = FeatureLookup.DefaultFeatureOptions.builder()
+                .name(FEATURE_NAME)
+                .userId("benchmark_user")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleScheduler.dispose();
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean callerThreadLookup() {
+        return featureLookup.lookup(options);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean callerThreadLookup16Threads() {
+        return featureLookup.lookup(options);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean callerThreadLookup64Threads() {
+        return featureLookup.lookup(options);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean singleSchedulerLookup() {
+        return singleSchedulerLookupOperation();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean singleSchedulerLookup16Threads() {
+        return singleSchedulerLookupOperation();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean singleSchedulerLookup64Threads() {
+        return singleSchedulerLookupOperation();
+    }
+
+    private boolean singleSchedulerLookupOperation() {
+        return Mono.defer(() -> context.getBean(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY,
+                        CustomFeatureManager.class).isEnabledAsync(options))
+                .subscribeOn(singleScheduler)
+                .blockOptional()
+                .orElseGet(options::defaultValue);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.bootstrap.feature.management.cache;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+/**
+ * Compares lock guarded {@linkplain InMemorySignalCache}, {@linkplain ConcurrentTinyLfuCache} and
+ * {@linkplain OffHeapBooleanCache} under read mostly (about 90% reads) skewed workload at 1 to 64 threads. Key space is
+ * twice the cache capacity, so every implementation keeps evicting. Keys are fixed width, so the off-heap cache could
+ * hold them.
+ * <br/>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheBenchmark {
+
+    private static final int CAPACITY = 2048;
+
+    private static final int KEYS = 1 << 12;
+
+    @Param({ "IN_MEMORY", "CONCURRENT", "OFF_HEAP" })
+    public String type;
+
+    private Cache<Key, Boolean> cache;
+
+    private Key[] keys;
+
+    @Setup
+    public void setup() {
+        if ("OFF_HEAP".equals(type)) {
+            cache = new OffHeapBooleanCache<>((long) CAPACITY * OffHeapBooleanCache.SLOT_SIZE);
+        } else {
+            var properties = new CacheProperties(true, CacheProperties.CacheType.valueOf(type),
+                    new CacheProperties.InMemoryCacheProperties(64, CAPACITY, null, null),
+                    new CacheProperties.ConcurrentCacheProperties(CAPACITY),
+                    null);
+            cache = new Cache.CacheFactory<Key, Boolean>(properties).getObject();
+        }
+
+        var random = new SplittableRandom(18L);
+        keys = new Key[KEYS * 4];
+        for (int i = 0; i < keys.length; i++) {
+            // squared uniform variable skews the access towards low keys
+            var skewed = random.nextDouble();
+            keys[i] = new Key(18L, (int) (skewed * skewed * KEYS), 0);
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            cache.put(keys[i], Boolean.TRUE);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position = (int) Thread.currentThread().getId() * 7919;
+
+        int next(int length) {
+            position = (position + 1) & (length - 1);
+            return position;
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Boolean readMostly(Cursor cursor) {
+        return operation(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Boolean readMostly4Threads(Cursor cursor) {
+        return operation(cursor);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Boolean readMostly16Threads(Cursor cursor) {
+        return operation(cursor);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Boolean readMostly64Threads(Cursor cursor) {
+        return operation(cursor);
+    }
+
+    private Boolean operation(Cursor cursor) {
+        var position = cursor.next(keys.length);
+        var key = keys[position];
+        var value = cache.get(key);
+        if (value == null || (position & 15) == 0) {
+            cache.put(key, Boolean.TRUE);
+        }
+        return value;
+    }
+
+    private record Key(long revision, long user, long groups) implements OffHeapBooleanCache.FixedWidthKey {
+
+        @Override
+        public long word(int index) {
+            return switch (index) {
+                case 0 -> revision;
+                case 1 -> user;
+                default -> groups;
+            };
+        }
+
+    }
+
+}
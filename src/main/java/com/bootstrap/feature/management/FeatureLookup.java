@@ -1,11 +1,17 @@
 package com.bootstrap.feature.management;
 
 import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -14,7 +20,11 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
 
 /**
  * Facade interface to extend for any specific feature management sdk provider.
@@ -58,6 +68,50 @@ public interface FeatureLookup {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Bulk feature lookup operation evaluating every specified feature against the same user/group context expressed
+     * by {@linkplain FeatureOptionsBuilderProvider} configurer. Feature name specified by configurer is ignored. By
+     * default falls back to the single feature lookup operation per feature.
+     *
+     * @param names    names of the features to evaluate
+     * @param provider {@linkplain FeatureOptionsBuilderProvider} configurer.
+     * @return evaluated states of specified features.
+     */
+    default FeatureStates lookupAll(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+        return FeatureStates.evaluate(names, name -> lookup(builder -> provider.apply(builder).name(name)));
+    }
+
+    /**
+     * Bulk feature lookup operation variation evaluating every specified feature against the specified user/group
+     * context.
+     *
+     * @param names       names of the features to evaluate
+     * @param userContext user/group evaluation context
+     * @return evaluated states of specified features.
+     */
+    default FeatureStates lookupAll(Collection<String> names, FeatureUserContext userContext) {
+        return lookupAll(names, builder -> builder.userContext(userContext));
+    }
+
+    /**
+     * Non-blocking bulk feature lookup operation variation. By default falls back to the non-blocking single feature
+     * lookup operation per feature, feature which lookup completes empty is evaluated as disabled.
+     *
+     * @param names    names of the features to evaluate
+     * @param provider {@linkplain FeatureOptionsBuilderProvider} configurer.
+     * @return evaluated states of specified features.
+     */
+    default Mono<FeatureStates> lookupAllAsync(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+        var distinctNames = List.copyOf(FeatureStates.indexes(names).keySet());
+        return Flux.fromIterable(distinctNames)
+                .concatMap(name -> lookupAsync(builder -> provider.apply(builder).name(name)).defaultIfEmpty(false))
+                .collectList()
+                .map(states -> {
+                    var iterator = states.iterator();
+                    return FeatureStates.evaluate(distinctNames, name -> Boolean.TRUE.equals(iterator.next()));
+                });
+    }
+
 
     record DefaultFeatureOptions(String featureLookupKey,
                                  String name,
@@ -140,6 +194,119 @@ public interface FeatureLookup {
     }
 
 
+    /**
+     * Compact result of the bulk feature lookup operation. Keeps requested feature names indexed in request order and
+     * their evaluated states as bits of a single {@linkplain BitSet}.
+     */
+    final class FeatureStates {
+
+        private static final FeatureStates EMPTY = new FeatureStates(Map.of(), new BitSet(0));
+
+        private final Map<String, Integer> indexes;
+
+        private final BitSet states;
+
+        private FeatureStates(Map<String, Integer> indexes, BitSet states) {
+            this.indexes = indexes;
+            this.states = states;
+        }
+
+        /**
+         * Evaluates every distinct specified feature name in a single pass.
+         *
+         * @param names     names of the features to evaluate
+         * @param evaluator feature state evaluator
+         * @return evaluated states of specified features
+         */
+        public static FeatureStates evaluate(Collection<String> names, Predicate<String> evaluator) {
+            var indexes = indexes(names);
+            if (indexes.isEmpty()) {
+                return EMPTY;
+            }
+
+            var states = new BitSet(indexes.size());
+            indexes.forEach((name, index) -> states.set(index, evaluator.test(name)));
+
+            return new FeatureStates(indexes, states);
+        }
+
+        /**
+         * Assigns the same state to every distinct specified feature name.
+         *
+         * @param names names of the features
+         * @param state state to assign
+         * @return states of specified features
+         */
+        public static FeatureStates of(Collection<String> names, boolean state) {
+            return evaluate(names, name -> state);
+        }
+
+        private static Map<String, Integer> indexes(Collection<String> names) {
+            if (names == null || names.isEmpty()) {
+                return Map.of();
+            }
+
+            Map<String, Integer> indexes = new LinkedHashMap<>(names.size() * 2);
+            for (String name : names) {
+                if (name != null) {
+                    indexes.putIfAbsent(name, indexes.size());
+                }
+            }
+            return Collections.unmodifiableMap(indexes);
+        }
+
+        /**
+         * Evaluated state of the specified feature.
+         *
+         * @param name feature name
+         * @return evaluated state or false if feature has not been requested
+         */
+        public boolean isEnabled(String name) {
+            var index = name == null ? null : indexes.get(name);
+            return index != null && states.get(index);
+        }
+
+        /**
+         * Checks whether specified feature has been requested.
+         *
+         * @param name feature name
+         * @return true if feature state has been evaluated
+         */
+        public boolean contains(String name) {
+            return name != null && indexes.containsKey(name);
+        }
+
+        /**
+         * Requested feature names in request order.
+         *
+         * @return feature names
+         */
+        public Set<String> names() {
+            return indexes.keySet();
+        }
+
+        public int size() {
+            return indexes.size();
+        }
+
+        /**
+         * Expands evaluated states into map keyed by feature name in request order.
+         *
+         * @return evaluated states map
+         */
+        public Map<String, Boolean> asMap() {
+            Map<String, Boolean> map = new LinkedHashMap<>(indexes.size() * 2);
+            indexes.forEach((name, index) -> map.put(name, states.get(index)));
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return asMap().toString();
+        }
+
+    }
+
     /**
      * Interface to extend/implement for expressing configuration of feature management specific provider.
      */
@@ -188,6 +355,26 @@ public interface FeatureLookup {
          */
         boolean suppressFailure();
 
+        /**
+         * User/group evaluation context derived from {@linkplain #userId()} and {@linkplain #groups()}. Implementations
+         * are encouraged to keep the context specified upfront, so it is shared among the lookups of the same request.
+         *
+         * @return user/group evaluation context
+         */
+        default FeatureUserContext userContext() {
+            return FeatureUserContext.of(userId(), groups());
+        }
+
+        /**
+         * Stands for request scoped feature manager snapshot handle. Takes precedence over
+         * {@linkplain #featureLookupKey()} if specified.
+         *
+         * @return feature manager snapshot handle or null
+         */
+        default FeatureSnapshotHandle<?> snapshotHandle() {
+            return null;
+        }
+
         /**
          * Constructs {@linkplain FeatureOptionsBuilder} builder derived from this options object.
          *
@@ -275,6 +462,27 @@ public interface FeatureLookup {
          */
         FeatureOptionsBuilder<T> suppressFailure(boolean suppressFailure);
 
+        /**
+         * Specify user/group evaluation context built once per request. By default, applies its user identifier and
+         * groups.
+         *
+         * @param userContext user/group evaluation context
+         * @return builder mutable self reference
+         */
+        default FeatureOptionsBuilder<T> userContext(FeatureUserContext userContext) {
+            return userId(userContext.userId()).groups(userContext.groups());
+        }
+
+        /**
+         * Specify request scoped feature manager snapshot handle if it is applicable. Ignored by default.
+         *
+         * @param snapshotHandle feature manager snapshot handle
+         * @return builder mutable self reference
+         */
+        default FeatureOptionsBuilder<T> snapshotHandle(FeatureSnapshotHandle<?> snapshotHandle) {
+            return this;
+        }
+
         /**
          * Converts serialized {@linkplain FeatureLookup.FeatureOptionsBuilder}{@literal <}T{@literal >} representation
          * into string.
@@ -413,12 +621,45 @@ public interface FeatureLookup {
                         .getAttribute(FeatureLookup.class.getName(), RequestAttributes.SCOPE_REQUEST);
             }
 
+            @Override
+            protected FeatureSnapshotHandle<?> getDefaultSnapshotHandle() {
+                var attributes = RequestContextHolder.getRequestAttributes();
+                return attributes != null && attributes.getAttribute(FeatureSnapshotHandle.class.getName(),
+                        RequestAttributes.SCOPE_REQUEST) instanceof FeatureSnapshotHandle<?> handle ? handle : null;
+            }
+
         };
 
         protected String getDefaultFeatureLookupKey() {
             return null;
         }
 
+        protected FeatureSnapshotHandle<?> getDefaultSnapshotHandle() {
+            return null;
+        }
+
+        /**
+         * Detects feature lookup key to leverage for lookup process straight from the specified context.
+         *
+         * @param context environment context
+         * @return feature lookup key
+         */
+        public final String getFeatureLookupKey(ContextView context) {
+            Object key = context == null ? null : context.getOrDefault(FeatureLookup.class.getName(), null);
+            return key != null ? key.toString() : getDefaultFeatureLookupKey();
+        }
+
+        /**
+         * Detects feature manager snapshot handle to leverage for lookup process straight from the specified context.
+         *
+         * @param context environment context
+         * @return feature manager snapshot handle or null
+         */
+        public final FeatureSnapshotHandle<?> getSnapshotHandle(ContextView context) {
+            return context != null && context.getOrDefault(FeatureSnapshotHandle.class, null)
+                    instanceof FeatureSnapshotHandle<?> handle ? handle : getDefaultSnapshotHandle();
+        }
+
         /**
          * Detects feature lookup key to leverage for lookup process.
          *
@@ -468,6 +709,16 @@ public interface FeatureLookup {
             return Mono.just(Boolean.FALSE);
         }
 
+        @Override
+        public FeatureStates lookupAll(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+            return FeatureStates.of(names, false);
+        }
+
+        @Override
+        public Mono<FeatureStates> lookupAllAsync(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+            return Mono.just(FeatureStates.of(names, false));
+        }
+
     }
 
 }
@@ -11,6 +11,8 @@ import org.springframework.context.annotation.Configuration;
 import com.bootstrap.feature.management.cache.Cache;
 import com.bootstrap.feature.management.configuration.properties.CacheProperties;
 import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.bootstrap.feature.management.targeting.BloomFilterStatistics;
 
 /**
  * Bootstrap configuration type placeholder responsible for loading Blockhound instrumentation agent during spring cloud
@@ -28,4 +30,11 @@ public class FeatureManagerBootstrapConfiguration {
         return new Cache.CacheFactory<>(cacheProperties);
     }
 
+    @Bean
+    public BloomFilterPolicy userIdBloomFilterPolicy(FeatureManagerProperties featureManagerProperties) {
+        var bloomFilter = featureManagerProperties.bloomFilter();
+        return new BloomFilterPolicy(bloomFilter.enabled(), bloomFilter.falsePositiveRate(), bloomFilter.minUsers(),
+                new BloomFilterStatistics());
+    }
+
 }
@@ -0,0 +1,238 @@
+package com.bootstrap.feature.management;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.bootstrap.feature.management.targeting.GroupIndex;
+import com.bootstrap.feature.management.util.HashingUtils;
+
+/**
+ * User/group evaluation context to build once per request and share among every lookup made on behalf of the same
+ * user. Keeps normalized user identifier and groups along with precomputed rollout hash seed, so evaluating many
+ * features neither re-normalizes nor re-encodes user attributes per feature.
+ */
+public final class FeatureUserContext {
+
+    private static final FeatureUserContext ANONYMOUS = new FeatureUserContext(null, Collections.emptySet());
+
+    private final String userId;
+
+    private final String normalizedUserId;
+
+    private final Set<String> groups;
+
+    private final Set<String> normalizedGroups;
+
+    private final String[] groupNames;
+
+    private final String[] normalizedGroupNames;
+
+    private final byte[][] groupRolloutSuffixes;
+
+    private final long[] groupHashes;
+
+    private final byte[] rolloutSeed;
+
+    private final long userHash;
+
+    private final long groupsHash;
+
+    private volatile GroupIndex.Membership groupMembership;
+
+    private FeatureUserContext(String userId, Set<String> groups) {
+        this.userId = userId;
+        this.normalizedUserId = userId == null ? null : userId.toLowerCase(Locale.ROOT);
+        this.groups = groups;
+        this.groupNames = groups.stream().filter(Objects::nonNull).toArray(String[]::new);
+        this.normalizedGroupNames = new String[groupNames.length];
+        this.groupRolloutSuffixes = new byte[groupNames.length][];
+        this.groupHashes = new long[groupNames.length];
+        for (int i = 0; i < groupNames.length; i++) {
+            normalizedGroupNames[i] = groupNames[i].toLowerCase(Locale.ROOT);
+            groupRolloutSuffixes[i] = ("\n" + groupNames[i]).getBytes(StandardCharsets.UTF_8);
+            groupHashes[i] = hash(groupNames[i]);
+        }
+        this.normalizedGroups = normalizedGroupNames.length == 0 ? Collections.emptySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(normalizedGroupNames)));
+        this.rolloutSeed = (userId + "\n").getBytes(StandardCharsets.UTF_8);
+        this.userHash = userId == null ? 0 : hash(userId);
+        long combined = 0;
+        for (long groupHash : groupHashes) {
+            combined = (combined ^ groupHash) * 0xFF51AFD7ED558CCDL;
+        }
+        this.groupsHash = combined;
+    }
+
+    /**
+     * Creates user/group evaluation context.
+     *
+     * @param userId user specific identifier or null
+     * @param groups groups user belongs to or null
+     * @return user/group evaluation context
+     */
+    public static FeatureUserContext of(String userId, Collection<String> groups) {
+        if (userId == null && CollectionUtils.isEmpty(groups)) {
+            return ANONYMOUS;
+        }
+        return new FeatureUserContext(userId, CollectionUtils.isEmpty(groups) ? Collections.emptySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<>(groups)));
+    }
+
+    /**
+     * User specific identifier as it has been specified.
+     *
+     * @return user identifier or null
+     */
+    public String userId() {
+        return userId;
+    }
+
+    /**
+     * Lower cased user specific identifier to match targeted users case-insensitively.
+     *
+     * @return normalized user identifier or null
+     */
+    public String normalizedUserId() {
+        return normalizedUserId;
+    }
+
+    /**
+     * Groups user belongs to as they have been specified.
+     *
+     * @return unmodifiable set of groups
+     */
+    public Set<String> groups() {
+        return groups;
+    }
+
+    /**
+     * Lower cased groups user belongs to to match targeted groups case-insensitively.
+     *
+     * @return unmodifiable set of normalized groups
+     */
+    public Set<String> normalizedGroups() {
+        return normalizedGroups;
+    }
+
+    /**
+     * Number of non null groups user belongs to. Groups are indexed in iteration order of {@linkplain #groups()}.
+     *
+     * @return groups count
+     */
+    public int groupCount() {
+        return groupNames.length;
+    }
+
+    /**
+     * Group user belongs to as it has been specified.
+     *
+     * @param index group index
+     * @return group name
+     */
+    public String group(int index) {
+        return groupNames[index];
+    }
+
+    /**
+     * Lower cased group user belongs to.
+     *
+     * @param index group index
+     * @return normalized group name
+     */
+    public String normalizedGroup(int index) {
+        return normalizedGroupNames[index];
+    }
+
+    /**
+     * Checks whether targeting could be applied to this context at all.
+     *
+     * @return true if either user identifier or groups are specified
+     */
+    public boolean isTargetable() {
+        return StringUtils.hasText(userId) || !groups.isEmpty();
+    }
+
+    /**
+     * Resolves groups membership against specified group index, the last resolved membership is cached, so lookups
+     * made against the same configuration version resolve group ids once.
+     *
+     * @param index group index of the loaded configuration
+     * @return groups membership
+     */
+    public GroupIndex.Membership groupMembership(GroupIndex index) {
+        var membership = groupMembership;
+        if (membership == null || membership.index() != index) {
+            membership = index.resolve(this);
+            groupMembership = membership;
+        }
+        return membership;
+    }
+
+    /**
+     * UTF-8 encoded {@code userId + "\n"} prefix of every targeting rollout context identifier. Returned array is
+     * shared and must not be modified.
+     *
+     * @return rollout hash seed
+     */
+    public byte[] rolloutSeed() {
+        return rolloutSeed;
+    }
+
+    /**
+     * 64-bit hash of the user identifier as it has been specified, rollout buckets depend on the exact identifier, so
+     * identifiers differing by case are hashed differently.
+     *
+     * @return user identifier hash, zero if identifier is not specified
+     */
+    public long userHash() {
+        return userHash;
+    }
+
+    /**
+     * UTF-8 encoded {@code "\n" + group} suffix of the group rollout context identifier. Returned array is shared and
+     * must not be modified.
+     *
+     * @param index group index
+     * @return group rollout hash suffix
+     */
+    public byte[] groupRolloutSuffix(int index) {
+        return groupRolloutSuffixes[index];
+    }
+
+    /**
+     * 64-bit hash of the group user belongs to as it has been specified.
+     *
+     * @param index group index
+     * @return group hash
+     */
+    public long groupHash(int index) {
+        return groupHashes[index];
+    }
+
+    /**
+     * Order sensitive 64-bit hash of every group user belongs to as they have been specified.
+     *
+     * @return groups hash, zero if user belongs to no group
+     */
+    public long groupsHash() {
+        return groupsHash;
+    }
+
+    /**
+     * Never zero so that it differs from absent value hash.
+     */
+    private static long hash(String value) {
+        var hash = HashingUtils.hash(value);
+        return hash == 0 ? 1 : hash;
+    }
+
+}
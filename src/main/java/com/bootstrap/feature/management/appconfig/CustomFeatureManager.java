@@ -2,6 +2,7 @@ package com.bootstrap.feature.management.appconfig;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -11,10 +12,10 @@ import com.azure.spring.cloud.feature.manager.FeatureManagementConfigProperties;
 import com.azure.spring.cloud.feature.manager.FeatureManager;
 import com.azure.spring.cloud.feature.manager.FilterNotFoundException;
 import com.azure.spring.cloud.feature.manager.entities.Feature;
-import com.azure.spring.cloud.feature.manager.entities.FeatureFilterEvaluationContext;
 import reactor.core.publisher.Mono;
 
 import com.bootstrap.feature.management.FeatureLookup;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
 
 /**
  * Enhanced {@linkplain FeatureManager} decorator type accepting specified {@linkplain FeatureLookup.FeatureOptions} parameter in
@@ -31,12 +32,45 @@ public class CustomFeatureManager extends HashMap<String, Object> {
 
     private final FeatureManager featureManager;
 
+    private final boolean pinned;
+
+    private final BloomFilterPolicy bloomFilterPolicy;
+
+    private final FeatureResultCache resultCache;
+
+    private volatile FeatureSnapshot snapshot;
+
     CustomFeatureManager(FeatureManagementConfigProperties properties) {
-        this(properties, null);
+        this(properties, BloomFilterPolicy.DISABLED);
     }
 
     /**
-     * Suppress warning as we are trying to designate particular constructor as autowired.
+     * Creates root manager building targeted users pre-checks as per specified policy upon every refresh.
+     *
+     * @param properties        feature management configuration properties holder
+     * @param bloomFilterPolicy targeted users Bloom filter pre-check policy
+     */
+    CustomFeatureManager(FeatureManagementConfigProperties properties, BloomFilterPolicy bloomFilterPolicy) {
+        this(properties, bloomFilterPolicy, FeatureResultCache.DISABLED);
+    }
+
+    /**
+     * Creates root manager building targeted users pre-checks as per specified policy upon every refresh and caching
+     * evaluation results in specified cache, shared with every snapshot of this manager.
+     *
+     * @param properties        feature management configuration properties holder
+     * @param bloomFilterPolicy targeted users Bloom filter pre-check policy
+     * @param resultCache       evaluation results cache
+     */
+    public CustomFeatureManager(FeatureManagementConfigProperties properties, BloomFilterPolicy bloomFilterPolicy,
+            FeatureResultCache resultCache) {
+        this(properties, null, bloomFilterPolicy, resultCache);
+    }
+
+    /**
+     * Suppress warning as we are trying to designate particular constructor as autowired. Snapshot variation shares
+     * underlying {@linkplain FeatureManager} of the root manager and pins its current {@linkplain FeatureSnapshot}
+     * version, so creation cost does not depend on the number of features.
      *
      * @param properties           feature management configuration properties holder
      * @param customFeatureManager provider to the shared manager instance or null
@@ -44,9 +78,29 @@ public class CustomFeatureManager extends HashMap<String, Object> {
     CustomFeatureManager(
             FeatureManagementConfigProperties properties,
             CustomFeatureManager customFeatureManager) {
+        this(properties, customFeatureManager,
+                Optional.ofNullable(customFeatureManager)
+                        .map(it -> it.bloomFilterPolicy)
+                        .orElse(BloomFilterPolicy.DISABLED),
+                Optional.ofNullable(customFeatureManager)
+                        .map(it -> it.resultCache)
+                        .orElse(FeatureResultCache.DISABLED));
+    }
+
+    private CustomFeatureManager(
+            FeatureManagementConfigProperties properties,
+            CustomFeatureManager customFeatureManager,
+            BloomFilterPolicy bloomFilterPolicy,
+            FeatureResultCache resultCache) {
+        this.bloomFilterPolicy = bloomFilterPolicy;
+        this.resultCache = resultCache;
         this.featureManager = Optional.ofNullable(customFeatureManager)
-                .<FeatureManager>map(it -> new FeatureManagerDecorator(properties, getFeatures(it)))
+                .map(CustomFeatureManager::getFeatureManager)
                 .orElseGet(() -> getDefaultFeatureManager(properties));
+        this.pinned = customFeatureManager != null;
+        this.snapshot = Optional.ofNullable(customFeatureManager)
+                .map(it -> it.snapshot)
+                .orElseGet(() -> FeatureSnapshot.EMPTY.next(getFeatures(this), bloomFilterPolicy));
     }
 
     /**
@@ -73,21 +127,67 @@ public class CustomFeatureManager extends HashMap<String, Object> {
     public Mono<Boolean> isEnabledAsync(String feature) throws FilterNotFoundException {
         var context = FeatureOptionsImpl.builder().fromString(feature);
 
-        return featureManager.isEnabledAsync(feature)
-                .zipWith(Mono.fromSupplier(() -> evaluate(context)))
-                .map(it -> it.getT1() || it.getT2());
+        return evaluateAsync(context);
     }
 
-    private boolean evaluate(FeatureLookup.FeatureEvaluationContext<FeatureFilterEvaluationContext> context) {
-        @SuppressWarnings("unchecked")
-        var featureManagement = (Map<String, Feature>) FEATURE_MANAGEMENT_FIELD.get(featureManager);
-        var feature = featureManagement.get(context.name());
+    /**
+     * Typed variation of {@linkplain #isEnabledAsync(String)} evaluating specified {@linkplain FeatureLookup.FeatureOptions}
+     * in-process with no serialization round trip.
+     *
+     * @param options {@linkplain FeatureLookup.FeatureOptions} feature configuration object.
+     * @return evaluated state of the specified feature configuration
+     */
+    public Mono<Boolean> isEnabledAsync(FeatureLookup.FeatureOptions options) throws FilterNotFoundException {
+        var context = FeatureOptionsImpl.FeatureOptionsImplBuilder.toContext(options);
 
-        if (feature == null) {
-            return false;
-        }
+        return evaluateAsync(context);
+    }
 
-        return context.evaluate(feature.getEnabledFor().values());
+    /**
+     * Synchronous variation of {@linkplain #isEnabledAsync(FeatureLookup.FeatureOptions)} evaluating specified
+     * {@linkplain FeatureLookup.FeatureOptions} straight on the caller thread.
+     *
+     * @param options {@linkplain FeatureLookup.FeatureOptions} feature configuration object.
+     * @return evaluated state of the specified feature configuration
+     */
+    public boolean isEnabled(FeatureLookup.FeatureOptions options) throws FilterNotFoundException {
+        return evaluate(FeatureOptionsImpl.FeatureOptionsImplBuilder.toContext(options));
+    }
+
+    /**
+     * Bulk variation of {@linkplain #isEnabled(FeatureLookup.FeatureOptions)} evaluating every specified feature
+     * against the same configuration version and user/group context in a single pass.
+     *
+     * @param names   names of the features to evaluate
+     * @param options {@linkplain FeatureLookup.FeatureOptions} user/group context, feature name is ignored
+     * @return evaluated states of the specified features
+     */
+    public FeatureLookup.FeatureStates isEnabledAll(Collection<String> names, FeatureLookup.FeatureOptions options)
+            throws FilterNotFoundException {
+        var current = snapshot;
+        var context = FeatureOptionsImpl.FeatureOptionsImplBuilder.toUserContext(options);
+        var groups = current.groups().membership(context.userContext());
+
+        return FeatureLookup.FeatureStates.evaluate(names, name -> {
+            var evaluator = current.get(name);
+            return evaluator != null && resultCache.evaluate(evaluator, context, groups);
+        });
+    }
+
+    /**
+     * Single evaluation pipeline shared by typed and serialized entry points. Compiled filters chain is walked once in
+     * declaration order and stops at the first filter returning true.
+     */
+    private Mono<Boolean> evaluateAsync(FeatureOptionsImpl.FeatureContext context) {
+        return Mono.fromSupplier(() -> evaluate(context));
+    }
+
+    private boolean evaluate(FeatureOptionsImpl.FeatureContext context) {
+        var current = snapshot;
+        var evaluator = current.get(context.name());
+
+        return evaluator != null
+                && resultCache.evaluate(evaluator, context, current.groups().membership(context.userContext()));
     }
 
     private FeatureManager getDefaultFeatureManager(FeatureManagementConfigProperties properties) {
@@ -121,9 +221,29 @@ public class CustomFeatureManager extends HashMap<String, Object> {
         }
     }
 
+    /**
+     * Propagates refreshed configuration to the underlying {@linkplain FeatureManager} and atomically publishes next
+     * {@linkplain FeatureSnapshot} version, so evaluation never re-resolves filters nor re-parses their parameters.
+     * Snapshot variation ignores refreshes and keeps evaluating the version it has been created from.
+     *
+     * @param properties feature management properties
+     */
     @Override
-    public void putAll(Map<? extends String, ? extends Object> properties) {
+    public synchronized void putAll(Map<? extends String, ? extends Object> properties) {
+        if (pinned) {
+            return;
+        }
         featureManager.putAll(properties);
+        snapshot = snapshot.next(getFeatures(this), bloomFilterPolicy);
+    }
+
+    /**
+     * Version of the feature configuration evaluated by this manager.
+     *
+     * @return configuration version, incremented upon every refresh
+     */
+    public long getVersion() {
+        return snapshot.version();
     }
 
     private static class VarHandleInstantiationException extends RuntimeException {
@@ -137,40 +257,6 @@ public class CustomFeatureManager extends HashMap<String, Object> {
 
     }
 
-    private static class FeatureManagerDecorator extends FeatureManager {
-
-        /**
-         * Used to evaluate whether a feature is enabled or disabled.
-         *
-         * @param properties Configuration options for Feature Management
-         */
-        FeatureManagerDecorator(FeatureManagementConfigProperties properties, Map<String, Feature> features) {
-            super(properties);
-            initFeatureManagement(features);
-        }
-
-        private void initFeatureManagement(Map<String, Feature> features) {
-            @SuppressWarnings("unchecked")
-            var featureManagement = (Map<String, Feature>) FEATURE_MANAGEMENT_FIELD.get(this);
-            if (featureManagement != null) {
-                Optional.ofNullable(features)
-                        .ifPresent(featureManagement::putAll);
-            }
-        }
-
-        /**
-         * Suppress warning as no-op implementation is intentionally required to stop refresh propagation.
-         *
-         * @param properties feature management properties
-         */
-        @Override
-        @SuppressWarnings("squid:S1186")
-        public void putAll(Map<? extends String, ? extends Object> properties) {
-
-        }
-
-    }
-
     public FeatureManager getFeatureManager() {
         return featureManager;
     }
@@ -0,0 +1,384 @@
+package com.bootstrap.feature.management.appconfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.azure.spring.cloud.feature.manager.entities.Feature;
+import com.azure.spring.cloud.feature.manager.entities.FeatureFilterEvaluationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.bootstrap.feature.management.targeting.GroupIndex;
+import com.bootstrap.feature.management.targeting.RolloutBucketing;
+import com.bootstrap.feature.management.targeting.UserIdIndex;
+
+/**
+ * Immutable evaluator tree compiled from app configuration {@linkplain Feature} definition. Compilation happens once
+ * per configuration refresh, so filter parameters are parsed upfront and evaluation only walks precompiled nodes.
+ */
+final class FeatureEvaluator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeatureEvaluator.class);
+
+    /**
+     * Targeting filter name as it is expressed by app configuration feature flag conditions.
+     */
+    static final String TARGETING_FILTER_NAME = "Microsoft.Targeting";
+
+    private static final FilterEvaluator NO_OP_FILTER = (context, groups) -> false;
+
+    private static final AtomicLong REVISIONS = new AtomicLong();
+
+    private final String name;
+
+    private final FilterEvaluator[] filters;
+
+    private final long revision;
+
+    private FeatureEvaluator(String name, FilterEvaluator[] filters) {
+        this.name = name;
+        this.filters = filters;
+        this.revision = REVISIONS.incrementAndGet();
+    }
+
+    /**
+     * Compiles specified {@linkplain Feature} into its evaluator tree.
+     *
+     * @param name    feature name
+     * @param feature feature definition
+     * @param groups      group index of the configuration being compiled, audience groups are interned into it
+     * @param bloomFilter targeted users Bloom filter pre-check policy
+     * @return compiled feature evaluator
+     */
+    static FeatureEvaluator compile(String name, Feature feature, GroupIndex.Builder groups,
+            BloomFilterPolicy bloomFilter) {
+        var contexts = Optional.ofNullable(feature.getEnabledFor())
+                .<Map<Integer, FeatureFilterEvaluationContext>>map(TreeMap::new)
+                .map(Map::values)
+                .orElseGet(Collections::emptyList);
+
+        return compile(name, contexts, groups, bloomFilter);
+    }
+
+    /**
+     * Compiles specified chain of filter evaluation contexts into evaluator tree of the named feature.
+     *
+     * @param name        feature name
+     * @param contexts    filter evaluation contexts in evaluation order
+     * @param groups      group index of the configuration being compiled, audience groups are interned into it
+     * @param bloomFilter targeted users Bloom filter pre-check policy
+     * @return compiled feature evaluator
+     */
+    static FeatureEvaluator compile(String name, Iterable<FeatureFilterEvaluationContext> contexts,
+            GroupIndex.Builder groups, BloomFilterPolicy bloomFilter) {
+        var filters = new ArrayList<FilterEvaluator>();
+        for (FeatureFilterEvaluationContext context : contexts) {
+            filters.add(compileFilter(name, context, groups, bloomFilter));
+        }
+
+        return new FeatureEvaluator(name, filters.toArray(FilterEvaluator[]::new));
+    }
+
+    private static FilterEvaluator compileFilter(String featureName, FeatureFilterEvaluationContext context,
+            GroupIndex.Builder groups, BloomFilterPolicy bloomFilter) {
+        if (context == null || !TARGETING_FILTER_NAME.equals(context.getName())) {
+            return NO_OP_FILTER;
+        }
+
+        try {
+            return TargetingFilterEvaluator.compile(featureName, context.getParameters(), groups, bloomFilter);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Feature '{}' declares invalid targeting filter parameters. Reason - {}", featureName,
+                    e.getMessage());
+            return new InvalidFilterEvaluator(e);
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Process wide unique identifier of this compiled evaluator. Unchanged features keep their evaluator instances
+     * across refreshes, so revision changes only once feature definition does and identifies both the feature and
+     * its configuration version.
+     *
+     * @return evaluator revision
+     */
+    long revision() {
+        return revision;
+    }
+
+    /**
+     * Walks compiled filters in declaration order against the specified evaluation context and stops at the first
+     * filter returning true. If no filter returns true, feature is considered disabled.
+     *
+     * @param context feature evaluation context
+     * @param groups  user groups membership resolved against the evaluated configuration group index
+     * @return evaluated state of the compiled feature
+     */
+    boolean evaluate(FeatureOptionsImpl.FeatureContext context, GroupIndex.Membership groups) {
+        for (FilterEvaluator filter : filters) {
+            if (filter.evaluate(context, groups)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compiled evaluators are considered equal when they are compiled from the same feature definition, so unchanged
+     * features could keep their evaluator instances across configuration refreshes.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FeatureEvaluator that)) return false;
+        return name.equals(that.name) && Arrays.equals(filters, that.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + Arrays.hashCode(filters);
+    }
+
+    /**
+     * Single precompiled filter node.
+     */
+    @FunctionalInterface
+    interface FilterEvaluator {
+
+        boolean evaluate(FeatureOptionsImpl.FeatureContext context, GroupIndex.Membership groups);
+
+    }
+
+    /**
+     * Precompiled targeting filter variation mirroring {@code TargetingFilter} semantics with case-insensitive users and
+     * groups matching.
+     */
+    static final class TargetingFilterEvaluator implements FilterEvaluator {
+
+        private static final String AUDIENCE = "Audience";
+
+        private static final String USERS = "Users";
+
+        private static final String GROUPS = "Groups";
+
+        private static final String NAME = "Name";
+
+        private static final String ROLLOUT_PERCENTAGE = "RolloutPercentage";
+
+        private static final String DEFAULT_ROLLOUT_PERCENTAGE = "DefaultRolloutPercentage";
+
+        private final String featureName;
+
+        private final UserIdIndex users;
+
+        private final Map<String, Double> groups;
+
+        private final double defaultRolloutPercentage;
+
+        private final byte[] featureNameBytes;
+
+        private final long[] groupBits;
+
+        private final int[] groupIds;
+
+        private final double[] groupRolloutPercentages;
+
+        TargetingFilterEvaluator(String featureName, UserIdIndex users, Map<String, Double> groups,
+                double defaultRolloutPercentage, GroupIndex.Builder groupIndex) {
+            this.featureName = featureName;
+            this.users = users;
+            this.groups = groups;
+            this.defaultRolloutPercentage = defaultRolloutPercentage;
+            this.featureNameBytes = String.valueOf(featureName).getBytes(StandardCharsets.UTF_8);
+            this.groupBits = groupIndex.addAll(groups.keySet());
+            this.groupIds = groups.keySet().stream().mapToInt(groupIndex::add).sorted().toArray();
+            this.groupRolloutPercentages = new double[groupIds.length];
+            groups.forEach((group, percentage) ->
+                    groupRolloutPercentages[Arrays.binarySearch(groupIds, groupIndex.add(group))] = percentage);
+        }
+
+        static TargetingFilterEvaluator compile(String featureName, Map<String, Object> parameters,
+                GroupIndex.Builder groupIndex, BloomFilterPolicy bloomFilter) {
+            var audience = Optional.ofNullable(getIgnoreCase(parameters, AUDIENCE))
+                    .filter(Map.class::isInstance)
+                    .<Map<String, Object>>map(TargetingFilterEvaluator::asMap)
+                    .orElse(parameters);
+
+            var users = UserIdIndex.of(values(getIgnoreCase(audience, USERS)), true, bloomFilter);
+
+            Map<String, Double> groups = new HashMap<>();
+            for (Object group : values(getIgnoreCase(audience, GROUPS))) {
+                if (group instanceof Map<?, ?> rollout) {
+                    var groupName = getIgnoreCase(asMap(rollout), NAME);
+                    if (groupName != null) {
+                        groups.putIfAbsent(groupName.toString().toLowerCase(Locale.ROOT),
+                                percentage(getIgnoreCase(asMap(rollout), ROLLOUT_PERCENTAGE), ROLLOUT_PERCENTAGE));
+                    }
+                }
+            }
+
+            return new TargetingFilterEvaluator(featureName, users, Map.copyOf(groups),
+                    percentage(getIgnoreCase(audience, DEFAULT_ROLLOUT_PERCENTAGE), DEFAULT_ROLLOUT_PERCENTAGE),
+                    groupIndex);
+        }
+
+        /**
+         * Evaluates targeting against precomputed user/group context, rollout buckets are resolved by
+         * {@linkplain RolloutBucketing} straight from the user rollout seed and precomputed feature name bytes. Audience
+         * groups are matched by their interned ids, users not belonging to any audience group are rejected by a single
+         * bitset intersection.
+         */
+        @Override
+        public boolean evaluate(FeatureOptionsImpl.FeatureContext context, GroupIndex.Membership groupMembership) {
+            var user = context.userContext();
+            if (!user.isTargetable()) {
+                return false;
+            }
+
+            var userId = user.normalizedUserId();
+            if (userId != null && users.contains(userId)) {
+                return true;
+            }
+
+            if (groupMembership.intersects(groupBits)) {
+                var ids = groupMembership.ids();
+                for (int i = 0; i < ids.length; i++) {
+                    var position = ids[i] < 0 ? -1 : Arrays.binarySearch(groupIds, ids[i]);
+                    if (position >= 0 && RolloutBucketing.isTargeted(groupRolloutPercentages[position],
+                            user.rolloutSeed(), featureNameBytes, user.groupRolloutSuffix(i))) {
+                        return true;
+                    }
+                }
+            }
+
+            return RolloutBucketing.isTargeted(defaultRolloutPercentage, user.rolloutSeed(), featureNameBytes);
+        }
+
+        String featureName() {
+            return featureName;
+        }
+
+        UserIdIndex users() {
+            return users;
+        }
+
+        Map<String, Double> groups() {
+            return groups;
+        }
+
+        double defaultRolloutPercentage() {
+            return defaultRolloutPercentage;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TargetingFilterEvaluator that)) return false;
+            return Double.compare(defaultRolloutPercentage, that.defaultRolloutPercentage) == 0
+                    && Objects.equals(featureName, that.featureName)
+                    && users.equals(that.users)
+                    && groups.equals(that.groups)
+                    && Arrays.equals(groupIds, that.groupIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(featureName, users, groups, defaultRolloutPercentage);
+        }
+
+        private static double percentage(Object value, String parameter) {
+            if (value == null) {
+                return 0;
+            }
+            double percentage;
+            try {
+                percentage = Double.parseDouble(value.toString());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format("'%s' is not a number: %s", parameter, value), e);
+            }
+            if (percentage < 0 || percentage > 100) {
+                throw new IllegalArgumentException(
+                        String.format("'%s' must be between 0 and 100: %s", parameter, value));
+            }
+            return percentage;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> asMap(Object value) {
+            return (Map<String, Object>) value;
+        }
+
+        /**
+         * Spring binder represents lists as index keyed maps, so both shapes are accepted. Indexed entries are
+         * ordered by their numeric position.
+         */
+        private static Collection<?> values(Object value) {
+            if (value instanceof Collection<?> collection) {
+                return collection;
+            }
+            if (value instanceof Map<?, ?> map) {
+                Map<Integer, Object> ordered = new TreeMap<>();
+                int position = map.size();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    ordered.put(index(entry.getKey(), position++), entry.getValue());
+                }
+                return ordered.values();
+            }
+            return List.of();
+        }
+
+        private static int index(Object key, int fallback) {
+            try {
+                return Integer.parseInt(String.valueOf(key));
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+
+        private static Object getIgnoreCase(Map<String, Object> map, String key) {
+            if (map == null) {
+                return null;
+            }
+            var value = map.get(key);
+            if (value != null) {
+                return value;
+            }
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                if (key.equalsIgnoreCase(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Filter node standing for misconfigured filter parameters. Raises compilation failure upon evaluation the same
+     * way as not precompiled filter would do.
+     */
+    record InvalidFilterEvaluator(IllegalArgumentException cause) implements FilterEvaluator {
+
+        @Override
+        public boolean evaluate(FeatureOptionsImpl.FeatureContext context, GroupIndex.Membership groups) {
+            throw new IllegalArgumentException(cause.getMessage(), cause);
+        }
+
+    }
+
+}
@@ -1,21 +1,21 @@
 package com.bootstrap.feature.management.appconfig;
 
 import java.io.Serializable;
-import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.snapshot.FeatureLookupMemo;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
 
 /**
  * Facade type to express/implement specific app configuration feature management logic.
@@ -25,10 +25,12 @@ public class FeatureLookupImpl implements FeatureLookup {
     private static final Logger LOG = LoggerFactory.getLogger(FeatureLookupImpl.class);
 
 
-    private static final String MANAGEMENT_NAMESPACE = MethodHandles.lookup().lookupClass().getName();
+    private static final class DefaultSchedulerHolder {
 
-    private static final Scheduler DEFAULT_MANAGEMENT_SCHEDULER = Schedulers
-            .newSingle(new FeatureLookupThreadFactory(MANAGEMENT_NAMESPACE));
+        private static final FeatureLookupScheduler DEFAULT_MANAGEMENT_SCHEDULER = FeatureLookupScheduler
+                .create(new FeatureManagerProperties.SchedulingProperties());
+
+    }
 
     private final Cache<String, Serializable> cache;
 
@@ -36,10 +38,35 @@ public class FeatureLookupImpl implements FeatureLookup {
 
     private final boolean snapshotEnabled;
 
+    private final FeatureLookupScheduler scheduler;
+
+    private final FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry;
+
+    private volatile CustomFeatureManager defaultFeatureManager;
+
     public FeatureLookupImpl(Cache<String, Serializable> cache, ApplicationContext context, boolean snapshotEnabled) {
+        this(cache, context, snapshotEnabled, DefaultSchedulerHolder.DEFAULT_MANAGEMENT_SCHEDULER);
+    }
+
+    public FeatureLookupImpl(
+            Cache<String, Serializable> cache,
+            ApplicationContext context,
+            boolean snapshotEnabled,
+            FeatureLookupScheduler scheduler) {
+        this(cache, context, snapshotEnabled, scheduler, new FeatureManagerSnapshotRegistry<>());
+    }
+
+    public FeatureLookupImpl(
+            Cache<String, Serializable> cache,
+            ApplicationContext context,
+            boolean snapshotEnabled,
+            FeatureLookupScheduler scheduler,
+            FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry) {
         this.cache = cache;
         this.context = context;
         this.snapshotEnabled = snapshotEnabled;
+        this.scheduler = scheduler;
+        this.snapshotRegistry = snapshotRegistry;
     }
 
     /**
@@ -53,14 +80,12 @@ public class FeatureLookupImpl implements FeatureLookup {
         FeatureOptions feature = FeatureOptionsImpl.builder()
                 .featureLookupKey(options.featureLookupKey())
                 .name(options.name())
-                .groups(options.groups())
-                .userId(options.userId())
+                .userContext(options.userContext())
                 .defaultValue(options.defaultValue())
+                .snapshotHandle(options.snapshotHandle())
                 .build();
 
-        return lookupOperation(feature)
-                .blockOptional()
-                .orElseGet(feature::defaultValue);
+        return lookupOperationSync(feature);
     }
 
     /**
@@ -73,9 +98,7 @@ public class FeatureLookupImpl implements FeatureLookup {
     public boolean lookup(FeatureOptionsBuilderProvider provider) {
         FeatureOptions feature = provider.featureOptionsBuilder(FeatureOptionsImpl::builder).build();
 
-        return lookupOperation(feature)
-                .blockOptional()
-                .orElseGet(feature::defaultValue);
+        return lookupOperationSync(feature);
     }
 
     /**
@@ -91,55 +114,184 @@ public class FeatureLookupImpl implements FeatureLookup {
         return lookupOperation(feature);
     }
 
+    /**
+     * Bulk feature lookup operation resolving feature manager snapshot once and evaluating every specified feature in
+     * a single pass on the caller thread.
+     *
+     * @param names    names of the features to evaluate
+     * @param provider {@linkplain FeatureOptionsBuilderProvider} configurer.
+     * @return evaluated states of specified features.
+     */
+    @Override
+    public FeatureStates lookupAll(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+        FeatureOptions options = provider.featureOptionsBuilder(FeatureOptionsImpl::builder).build();
+
+        try {
+            return lookupAllOperation(names, options);
+        } catch (Exception e) {
+            LOG.error("Feature Lookup operation is failed. Reason - ", e);
+            if (options.suppressFailure()) {
+                return FeatureStates.of(names, options.defaultValue());
+            }
+            throw new FeatureLookupOperationException(e);
+        }
+    }
+
+    /**
+     * Non-blocking bulk feature lookup operation with a single scheduler hop per call.
+     *
+     * @param names    names of the features to evaluate
+     * @param provider {@linkplain FeatureOptionsBuilderProvider} configurer.
+     * @return evaluated states of specified features.
+     */
+    @Override
+    public Mono<FeatureStates> lookupAllAsync(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+        FeatureOptions options = provider.featureOptionsBuilder(FeatureOptionsImpl::builder).build();
+
+        return scheduler.schedule(Mono.fromSupplier(() -> lookupAllOperation(names, options)))
+                .doOnError(e -> LOG.error("Feature Lookup operation is failed. Reason - ", e))
+                .onErrorResume(cause -> options.suppressFailure()
+                        ? Mono.just(FeatureStates.of(names, options.defaultValue()))
+                        : Mono.error(() -> new FeatureLookupOperationException(cause)));
+    }
+
+    private FeatureStates lookupAllOperation(Collection<String> names, FeatureOptions options) {
+        return getCustomFeatureManager(options).isEnabledAll(names, options);
+    }
+
+    /**
+     * Result memoized by the request snapshot handle is served straight away with no scheduler hop. Only results
+     * evaluated against the handle snapshot are memoized, results of the shared manager fallen back to are not.
+     */
     private Mono<Boolean> lookupOperation(FeatureOptions feature) {
-        return Mono.defer(() -> getCustomFeatureManager(feature).isEnabledAsync(feature.toBuilder().stringify()))
-                .subscribeOn(DEFAULT_MANAGEMENT_SCHEDULER)
+        var memo = getMemo(feature);
+        var memoized = memo == null ? null : memo.get(feature.name(), feature.userContext());
+        if (memoized != null) {
+            return Mono.just(memoized);
+        }
+
+        return scheduler.schedule(Mono.defer(() -> {
+                    var snapshot = getHandleSnapshot(feature);
+                    if (snapshot == null) {
+                        return getSharedFeatureManager(feature).isEnabledAsync(feature);
+                    }
+                    var lookup = snapshot.isEnabledAsync(feature);
+                    return memo == null ? lookup
+                            : lookup.doOnNext(enabled -> memo.put(feature.name(), feature.userContext(), enabled));
+                }))
                 .doOnError(e -> LOG.error("Feature Lookup operation is failed. Reason - ", e))
                 .onErrorResume(getFallbackPublisher(feature));
     }
 
-    private CustomFeatureManager getCustomFeatureManager(FeatureOptions feature) {
-        var customFeatureManagerBeanName = Optional.ofNullable(feature)
-                .map(FeatureOptions::featureLookupKey)
-                .filter(context::containsBeanDefinition)
-                .orElse(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY);
+    /**
+     * Blocking lookup variation evaluating in-memory feature configuration straight on the caller thread with no
+     * publisher assembly nor scheduler hop.
+     */
+    private boolean lookupOperationSync(FeatureOptions feature) {
+        try {
+            var memo = getMemo(feature);
+            var memoized = memo == null ? null : memo.get(feature.name(), feature.userContext());
+            if (memoized != null) {
+                return memoized;
+            }
+
+            var snapshot = getHandleSnapshot(feature);
+            if (snapshot == null) {
+                return getSharedFeatureManager(feature).isEnabled(feature);
+            }
+            var enabled = snapshot.isEnabled(feature);
+            if (memo != null) {
+                memo.put(feature.name(), feature.userContext(), enabled);
+            }
+            return enabled;
+        } catch (Exception e) {
+            LOG.error("Feature Lookup operation is failed. Reason - ", e);
+            if (feature.suppressFailure()) {
+                return feature.defaultValue();
+            }
+            throw new FeatureLookupOperationException(e);
+        }
+    }
 
-        return context.getBean(
-                snapshotEnabled ? customFeatureManagerBeanName : CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY,
-                CustomFeatureManager.class);
+    private CustomFeatureManager getCustomFeatureManager(FeatureOptions feature) {
+        var snapshot = getHandleSnapshot(feature);
+        return snapshot != null ? snapshot : getSharedFeatureManager(feature);
     }
 
-    private Function<Throwable, Mono<Boolean>> getFallbackPublisher(FeatureOptions feature) {
-        return cause -> Optional.ofNullable(feature)
-                .filter(FeatureOptions::suppressFailure)
-                .map(FeatureOptions::defaultValue)
-                .map(Mono::just)
-                .orElseGet(() -> Mono.error(() -> new FeatureLookupOperationException(cause)));
+    /**
+     * Resolves snapshot pinned by the request snapshot handle.
+     *
+     * @return handle snapshot or null if there is no handle, handle has been released or snapshot is failed to
+     * materialize
+     */
+    private CustomFeatureManager getHandleSnapshot(FeatureOptions feature) {
+        var snapshotHandle = snapshotEnabled && feature != null ? feature.snapshotHandle() : null;
+        if (snapshotHandle != null && getSnapshot(snapshotHandle) instanceof CustomFeatureManager snapshot) {
+            return snapshot;
+        }
+        return null;
     }
 
-    private static class FeatureLookupThreadFactory implements ThreadFactory, Thread.UncaughtExceptionHandler {
-        String name;
+    private CustomFeatureManager getSharedFeatureManager(FeatureOptions feature) {
+        var featureLookupKey = snapshotEnabled && feature != null ? feature.featureLookupKey() : null;
+        if (featureLookupKey != null) {
+            var snapshot = getSnapshot(featureLookupKey);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            // snapshots registered as synthetic bean definitions by legacy registration callbacks
+            if (context.containsBeanDefinition(featureLookupKey)) {
+                return context.getBean(featureLookupKey, CustomFeatureManager.class);
+            }
+        }
+
+        return getDefaultFeatureManager();
+    }
 
-        AtomicLong counter = new AtomicLong();
+    /**
+     * Lookup results are memoized only along with the request snapshot handle, so memoized results never outlive the
+     * snapshot they have been evaluated against.
+     */
+    private FeatureLookupMemo getMemo(FeatureOptions feature) {
+        var snapshotHandle = snapshotEnabled && feature != null ? feature.snapshotHandle() : null;
+        return snapshotHandle != null ? snapshotHandle.memo() : null;
+    }
 
-        public FeatureLookupThreadFactory(String name) {
-            this.name = name;
+    private CustomFeatureManager getSnapshot(String featureLookupKey) {
+        try {
+            return snapshotRegistry.get(featureLookupKey);
+        } catch (Exception e) {
+            LOG.warn("Feature manager snapshot '{}' is failed to materialize. Falling back to the shared manager",
+                    featureLookupKey, e);
+            return null;
         }
+    }
 
-        @Override
-        public Thread newThread(Runnable runnable) {
-            String newThreadName = String.join("-", name, Long.toString(counter.incrementAndGet()));
-            Thread thread = new Thread(runnable, newThreadName);
-            thread.setDaemon(true);
-            thread.setUncaughtExceptionHandler(this);
-            return thread;
+    private Object getSnapshot(FeatureSnapshotHandle<?> snapshotHandle) {
+        try {
+            return snapshotHandle.get();
+        } catch (Exception e) {
+            LOG.warn("Feature manager snapshot is failed to materialize. Falling back to the shared manager", e);
+            return null;
         }
+    }
 
-        @Override
-        public void uncaughtException(Thread t, Throwable e) {
-            LOG.error("FeatureLookup worker failed with an uncaught exception%n", e);
+    private CustomFeatureManager getDefaultFeatureManager() {
+        var featureManager = defaultFeatureManager;
+        if (featureManager == null) {
+            featureManager = context.getBean(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY,
+                    CustomFeatureManager.class);
+            defaultFeatureManager = featureManager;
         }
+        return featureManager;
+    }
 
+    private Function<Throwable, Mono<Boolean>> getFallbackPublisher(FeatureOptions feature) {
+        return cause -> Optional.ofNullable(feature)
+                .filter(FeatureOptions::suppressFailure)
+                .map(FeatureOptions::defaultValue)
+                .map(Mono::just)
+                .orElseGet(() -> Mono.error(() -> new FeatureLookupOperationException(cause)));
     }
 
     @SuppressWarnings("squid:S3985")
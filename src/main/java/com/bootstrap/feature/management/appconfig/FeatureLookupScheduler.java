@@ -0,0 +1,184 @@
+package com.bootstrap.feature.management.appconfig;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties.SchedulingMode;
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties.SchedulingProperties;
+
+/**
+ * Scheduling strategy holder for non-blocking feature lookup operations. Keeps track of basic scheduler statistics, so
+ * the most suitable {@linkplain SchedulingMode} could be picked per service.
+ */
+public class FeatureLookupScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeatureLookupScheduler.class);
+
+    private static final String MANAGEMENT_NAMESPACE = FeatureLookupImpl.class.getName();
+
+    private final SchedulingMode mode;
+
+    private final Scheduler scheduler;
+
+    private final LongAdder submitted = new LongAdder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder active = new LongAdder();
+
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    FeatureLookupScheduler(SchedulingMode mode, Scheduler scheduler) {
+        this.mode = mode;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates scheduling strategy based on the specified properties.
+     *
+     * @param properties scheduling properties holder
+     * @return {@linkplain FeatureLookupScheduler} instance
+     */
+    public static FeatureLookupScheduler create(SchedulingProperties properties) {
+        var threadFactory = new FeatureLookupThreadFactory(MANAGEMENT_NAMESPACE);
+
+        return switch (properties.mode()) {
+            case INLINE -> new FeatureLookupScheduler(SchedulingMode.INLINE, null);
+            case PARALLEL -> new FeatureLookupScheduler(SchedulingMode.PARALLEL,
+                    Schedulers.newParallel(properties.parallelism(), threadFactory));
+            case BOUNDED_ELASTIC -> boundedElastic(properties, threadFactory);
+            case VIRTUAL_THREADS -> virtualThreads(properties, threadFactory);
+            case SINGLE -> new FeatureLookupScheduler(SchedulingMode.SINGLE, Schedulers.newSingle(threadFactory));
+        };
+    }
+
+    private static FeatureLookupScheduler boundedElastic(SchedulingProperties properties,
+            ThreadFactory threadFactory) {
+        return new FeatureLookupScheduler(SchedulingMode.BOUNDED_ELASTIC, Schedulers.newBoundedElastic(
+                properties.threadCap(), properties.queuedTaskCap(), threadFactory, 60));
+    }
+
+    private static FeatureLookupScheduler virtualThreads(SchedulingProperties properties,
+            ThreadFactory threadFactory) {
+        try {
+            var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            return new FeatureLookupScheduler(SchedulingMode.VIRTUAL_THREADS,
+                    Schedulers.fromExecutorService(executor, MANAGEMENT_NAMESPACE));
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads are not supported by the current runtime. Falling back to '{}' mode",
+                    SchedulingMode.BOUNDED_ELASTIC);
+            return boundedElastic(properties, threadFactory);
+        }
+    }
+
+    /**
+     * Subscribes to the specified lookup operation according to the current scheduling mode.
+     *
+     * @param lookup lookup operation publisher
+     * @param <T>    lookup operation result type
+     * @return scheduled lookup operation publisher
+     */
+    public <T> Mono<T> schedule(Mono<T> lookup) {
+        return Mono.defer(() -> {
+            long submittedAt = System.nanoTime();
+            submitted.increment();
+
+            Mono<T> operation = Mono.defer(() -> {
+                        queueWaitNanos.add(System.nanoTime() - submittedAt);
+                        active.increment();
+                        return lookup;
+                    })
+                    .doFinally(signal -> {
+                        active.decrement();
+                        completed.increment();
+                    });
+
+            return scheduler == null ? operation : operation.subscribeOn(scheduler);
+        });
+    }
+
+    /**
+     * Releases underlying scheduler resources.
+     */
+    public void dispose() {
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    public SchedulingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Number of lookup operations submitted to the scheduler.
+     *
+     * @return submitted operations count
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * Number of lookup operations completed by the scheduler.
+     *
+     * @return completed operations count
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Number of lookup operations currently running on the scheduler.
+     *
+     * @return active operations count
+     */
+    public long getActive() {
+        return active.sum();
+    }
+
+    /**
+     * Total time lookup operations spent waiting for the scheduler worker.
+     *
+     * @return accumulated queue wait time in nanoseconds
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    private static class FeatureLookupThreadFactory implements ThreadFactory, Thread.UncaughtExceptionHandler {
+        String name;
+
+        AtomicLong counter = new AtomicLong();
+
+        public FeatureLookupThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            String newThreadName = String.join("-", name, Long.toString(counter.incrementAndGet()));
+            Thread thread = new Thread(runnable, newThreadName);
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(this);
+            return thread;
+        }
+
+        @Override
+        public void uncaughtException(Thread t, Throwable e) {
+            LOG.error("FeatureLookup worker failed with an uncaught exception%n", e);
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ import org.springframework.context.annotation.Primary;
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.cache.Cache;
 import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
 
 @Configuration(value = "appConfigFeatureManagerConfiguration", proxyBeanMethods = false)
 @ConditionalOnClass(name = "com.azure.spring.cloud.feature.manager.FeatureManager")
@@ -36,8 +38,28 @@ public class FeatureManagerConfiguration {
 
     @Primary
     @Bean(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY)
-    public CustomFeatureManager customFeatureManager(FeatureManagementConfigProperties properties) {
-        return new CustomFeatureManager(properties);
+    public CustomFeatureManager customFeatureManager(FeatureManagementConfigProperties properties,
+            BloomFilterPolicy userIdBloomFilterPolicy,
+            FeatureResultCache featureResultCache) {
+        return new CustomFeatureManager(properties, userIdBloomFilterPolicy, featureResultCache);
+    }
+
+    /**
+     * Results are held off-heap once off-heap capacity is specified, bounded by that capacity rather than by maximum
+     * size then.
+     *
+     * @param featureManagerProperties feature management properties
+     * @return evaluation results cache
+     */
+    @Bean
+    public FeatureResultCache featureResultCache(FeatureManagerProperties featureManagerProperties) {
+        var resultCache = featureManagerProperties.resultCache();
+        if (!resultCache.enabled()) {
+            return FeatureResultCache.DISABLED;
+        }
+        return resultCache.offHeapCapacity() != null
+                ? FeatureResultCache.offHeap(resultCache.offHeapCapacity())
+                : new FeatureResultCache(resultCache.maximumSize());
     }
 
     @Bean
@@ -47,12 +69,33 @@ public class FeatureManagerConfiguration {
         return () -> CustomFeatureManager.create(featureManagementConfigProperties, customFeatureManager);
     }
 
+    @Bean
+    public FeatureManagerSnapshotRegistry<CustomFeatureManager> customFeatureManagerSnapshotRegistry(
+            FeatureManagerProperties featureManagerProperties,
+            @Qualifier(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY) CustomFeatureManager customFeatureManager) {
+        var snapshotProperties = featureManagerProperties.snapshot();
+        return switch (snapshotProperties.policy()) {
+            case PER_REQUEST -> new FeatureManagerSnapshotRegistry<>();
+            case PER_REFRESH -> new FeatureManagerSnapshotRegistry<>(customFeatureManager::getVersion);
+            case PER_TIME_WINDOW -> new FeatureManagerSnapshotRegistry<>(
+                    FeatureManagerSnapshotRegistry.timeWindowEpoch(snapshotProperties.window()));
+        };
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public FeatureLookupScheduler featureLookupScheduler(FeatureManagerProperties featureManagerProperties) {
+        return FeatureLookupScheduler.create(featureManagerProperties.scheduling());
+    }
+
     @Bean
     public FeatureLookup featureLookup(
             Cache<String, Serializable> cache,
             ApplicationContext context,
-            FeatureManagerProperties featureManagerProperties) {
-        return new FeatureLookupImpl(cache, context, featureManagerProperties.snapshotEnabled());
+            FeatureManagerProperties featureManagerProperties,
+            FeatureLookupScheduler featureLookupScheduler,
+            FeatureManagerSnapshotRegistry<CustomFeatureManager> customFeatureManagerSnapshotRegistry) {
+        return new FeatureLookupImpl(cache, context, featureManagerProperties.snapshotEnabled(),
+                featureLookupScheduler, customFeatureManagerSnapshotRegistry);
     }
 
 }
@@ -3,27 +3,20 @@ package com.bootstrap.feature.management.appconfig;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
-import java.util.stream.StreamSupport;
 
-import com.azure.spring.cloud.feature.manager.FeatureFilter;
 import com.azure.spring.cloud.feature.manager.entities.FeatureFilterEvaluationContext;
-import com.azure.spring.cloud.feature.manager.feature.filters.TargetingFilter;
-import com.azure.spring.cloud.feature.manager.targeting.ITargetingContextAccessor;
-import com.azure.spring.cloud.feature.manager.targeting.TargetingContext;
-import com.azure.spring.cloud.feature.manager.targeting.TargetingEvaluationOptions;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.SerializationUtils;
 import org.springframework.util.StringUtils;
-import reactor.core.publisher.Mono;
 
 import com.bootstrap.feature.management.FeatureLookup;
+import com.bootstrap.feature.management.FeatureUserContext;
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.bootstrap.feature.management.targeting.GroupIndex;
 
 /**
  * Feature description/configuration type to construct its behavior/expected state.
@@ -34,7 +27,9 @@ record FeatureOptionsImpl(
         String userId,
         Set<String> groups,
         boolean defaultValue,
-        boolean suppressFailure
+        boolean suppressFailure,
+        FeatureSnapshotHandle<?> snapshotHandle,
+        FeatureUserContext userContext
 ) implements FeatureLookup.FeatureOptions {
 
     /**
@@ -62,7 +57,7 @@ record FeatureOptionsImpl(
 
     @Override
     public FeatureLookup.FeatureOptionsBuilder<? extends FeatureLookup.FeatureOptions> toBuilder() {
-        return builder().featureLookupKey(this.featureLookupKey).name(this.name).userId(this.userId).groups(this.groups).defaultValue(this.defaultValue).suppressFailure(this.suppressFailure);
+        return builder().featureLookupKey(this.featureLookupKey).name(this.name).userId(this.userId).groups(this.groups).defaultValue(this.defaultValue).suppressFailure(this.suppressFailure).snapshotHandle(this.snapshotHandle).userContext(this.userContext);
     }
 
     public static final class FeatureOptionsImplBuilder
@@ -81,6 +76,10 @@ record FeatureOptionsImpl(
 
         private boolean suppressFailure;
 
+        private transient FeatureSnapshotHandle<?> snapshotHandle;
+
+        private transient FeatureUserContext userContext;
+
         @Override
         public FeatureLookup.FeatureOptionsBuilder<FeatureOptionsImpl> featureLookupKey(String featureLookupKey) {
             this.featureLookupKey = featureLookupKey;
@@ -96,12 +95,14 @@ record FeatureOptionsImpl(
         @Override
         public FeatureLookup.FeatureOptionsBuilder<FeatureOptionsImpl> userId(String userId) {
             this.userId = userId;
+            this.userContext = null;
             return this;
         }
 
         @Override
         public FeatureLookup.FeatureOptionsBuilder<FeatureOptionsImpl> groups(Set<String> groups) {
             this.groups = groups;
+            this.userContext = null;
             return this;
         }
 
@@ -117,6 +118,22 @@ record FeatureOptionsImpl(
             return this;
         }
 
+        @Override
+        public FeatureLookup.FeatureOptionsBuilder<FeatureOptionsImpl> userContext(FeatureUserContext userContext) {
+            if (userContext != null) {
+                userId(userContext.userId()).groups(userContext.groups());
+            }
+            this.userContext = userContext;
+            return this;
+        }
+
+        @Override
+        public FeatureLookup.FeatureOptionsBuilder<FeatureOptionsImpl> snapshotHandle(
+                FeatureSnapshotHandle<?> snapshotHandle) {
+            this.snapshotHandle = snapshotHandle;
+            return this;
+        }
+
         /**
          * Converts serialized {@linkplain FeatureLookup.FeatureOptionsBuilder}{@literal <}TYPE{@literal >}
          * representation into string.
@@ -151,7 +168,15 @@ record FeatureOptionsImpl(
 
         @Override
         public FeatureOptionsImpl build() {
-            return new FeatureOptionsImpl(featureLookupKey, name, userId, groups, defaultValue, suppressFailure);
+            return new FeatureOptionsImpl(featureLookupKey, name, userId, groups, defaultValue, suppressFailure,
+                    snapshotHandle, getUserContext());
+        }
+
+        private FeatureUserContext getUserContext() {
+            if (userContext == null) {
+                userContext = FeatureUserContext.of(userId, groups);
+            }
+            return userContext;
         }
 
         private void writeObject(ObjectOutputStream stream) throws IOException {
@@ -162,126 +187,108 @@ record FeatureOptionsImpl(
             stream.writeObject(groups);
         }
 
+        /**
+         * Constructs {@linkplain FeatureContext} holder object straight from the specified
+         * {@linkplain FeatureLookup.FeatureOptions} bypassing serialized/stringified shape round trip.
+         *
+         * @param options feature configuration object
+         * @return {@linkplain FeatureContext} holder object derived from specified options
+         */
+        static FeatureContext toContext(FeatureLookup.FeatureOptions options) {
+            var builder = new FeatureOptionsImplBuilder();
+            builder.readFields(options.featureLookupKey(), options.name(), options.userId(), options.groups());
+            builder.defaultValue(options.defaultValue()).suppressFailure(options.suppressFailure());
+            builder.userContext = options.userContext();
+
+            return builder.toContext();
+        }
+
+        /**
+         * Constructs name agnostic {@linkplain FeatureContext} holder object carrying user/group context only, so it
+         * could be shared by compiled evaluators of many features.
+         *
+         * @param options feature configuration object
+         * @return {@linkplain FeatureContext} holder object derived from specified options
+         */
+        static FeatureContext toUserContext(FeatureLookup.FeatureOptions options) {
+            var groups = options.groups();
+            return new FeatureContext(options.featureLookupKey(), null, options.userId(),
+                    groups == null ? Collections.emptySet() : Collections.unmodifiableSet(groups),
+                    options.defaultValue(), options.userContext());
+        }
+
         @SuppressWarnings("squid:S2388")
         private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
             stream.defaultReadObject();
-            String featureLookupKey = Optional.ofNullable(stream.readObject())
+            readFields(stream.readObject(), stream.readObject(), stream.readObject(), stream.readObject());
+        }
+
+        private void readFields(Object featureLookupKey, Object name, Object userId, Object groups) {
+            String lookupKey = Optional.ofNullable(featureLookupKey)
                     .filter(String.class::isInstance)
                     .map(String.class::cast)
                     .orElse(CustomFeatureManager.DEFAULT_FEATURE_MANAGEMENT_KEY);
 
-            String name = Optional.ofNullable(stream.readObject())
+            String featureName = Optional.ofNullable(name)
                     .filter(String.class::isInstance)
                     .map(String.class::cast)
                     .orElseThrow(() -> new IllegalArgumentException(
                             "Name parameter is required to construct 'FeatureOptions' builder instance"));
 
-            String userId = Optional.ofNullable(stream.readObject())
+            String user = Optional.ofNullable(userId)
                     .filter(String.class::isInstance)
                     .map(String.class::cast)
                     .orElse(null);
 
             @SuppressWarnings("unchecked")
-            Set<String> groups = Optional.ofNullable(stream.readObject())
+            Set<String> userGroups = Optional.ofNullable(groups)
                     .filter(Set.class::isInstance)
                     .map(it -> (Set<String>) it)
                     .map(Collections::unmodifiableSet)
                     .orElseGet(Collections::emptySet);
 
-            featureLookupKey(featureLookupKey).name(name).userId(userId).groups(groups);
+            featureLookupKey(lookupKey).name(featureName).userId(user).groups(userGroups);
         }
 
         private Object readResolve() {
-            Map<String, Supplier<FeatureFilter>> map = Map.of("Microsoft.Targeting",
-                    () -> new TargetingFilter(new FeatureOptionsAwareTargetingContextAccessor(this), new TargetingEvaluationOptions().setIgnoreCase(true)));
+            return toContext();
+        }
 
-            return new FeatureContext(featureLookupKey, name, userId, groups, defaultValue, map);
+        private FeatureContext toContext() {
+            return new FeatureContext(featureLookupKey, name, userId, groups, defaultValue, getUserContext());
         }
 
     }
 
+    /**
+     * Evaluation context of the compiled {@linkplain FeatureEvaluator} carrying feature name along with user/group
+     * context.
+     */
     record FeatureContext(
             String featureLookupKey,
             String name,
             String userId,
             Set<String> groups,
             boolean defaultValue,
-            Map<String, Supplier<FeatureFilter>> filters
+            FeatureUserContext userContext
     ) implements FeatureLookup.FeatureEvaluationContext<FeatureFilterEvaluationContext> {
 
-        private static final FeatureFilter NO_OP_FILTER = context -> false;
-
-
-        @Override
-        public boolean evaluate(Iterable<FeatureFilterEvaluationContext> contexts) {
-            return Optional.ofNullable(contexts)
-                    .stream()
-                    .flatMap(it -> StreamSupport.stream(it.spliterator(), false))
-                    .map(this::applyFilters)
-                    .reduce(Boolean::logicalOr)
-                    .orElse(Boolean.FALSE);
-        }
-
-        private boolean applyFilters(FeatureFilterEvaluationContext context) {
-            FeatureFilter filter = Optional.ofNullable(context)
-                    .map(it -> {
-                        it.setFeatureName(name);
-                        return it.getName();
-                    })
-                    .filter(StringUtils::hasText)
-                    .map(filters::get)
-                    .map(Supplier::get)
-                    .orElse(NO_OP_FILTER);
-
-            return filter.evaluate(context);
-        }
-
-    }
-
-    /**
-     * {@linkplain FeatureLookup.FeatureOptions} aware context accessor to construct target filter evaluation context.
-     */
-    static class FeatureOptionsAwareTargetingContextAccessor implements ITargetingContextAccessor {
-
-        FeatureOptionsImpl.FeatureOptionsImplBuilder featureOptionsBuilder;
-
-        public FeatureOptionsAwareTargetingContextAccessor(FeatureOptionsImplBuilder featureOptionsBuilder) {
-            this.featureOptionsBuilder = featureOptionsBuilder;
-        }
-
-        public FeatureOptionsImplBuilder getFeatureOptionsBuilder() {
-            return featureOptionsBuilder;
-        }
-
         /**
-         * Builds the Targeting Context for Feature Targeting evaluation.
+         * Compiles specified filters chain into a one-off {@linkplain FeatureEvaluator} and evaluates it, filters are
+         * applied in iteration order and evaluation stops at the first filter returning true.
          *
-         * @return Mono{@literal <}TargetContext{@literal >} context holder
+         * @param contexts chain of the feature specific filters
+         * @return state of evaluated filters chain
          */
         @Override
-        public Mono<TargetingContext> getContextAsync() {
-            FeatureOptionsImpl featureOptions = featureOptionsBuilder.build();
-            if (isTargetingAvailable(featureOptions)) {
-                TargetingContext context = new TargetingContext();
-
-                context.setUserId(featureOptions.userId());
-                context.setGroups(new ArrayList<>(featureOptions.groups()));
-
-                return Mono.just(context);
-            } else {
-                return Mono.empty();
+        public boolean evaluate(Iterable<FeatureFilterEvaluationContext> contexts) {
+            if (contexts == null) {
+                return false;
             }
-        }
+            var groupIndex = GroupIndex.empty(true).toBuilder();
+            var evaluator = FeatureEvaluator.compile(name, contexts, groupIndex, BloomFilterPolicy.DISABLED);
 
-        /**
-         * Checks is target based filter can be applied.
-         *
-         * @return status value denoted the presence of target filter in the evaluation chain.
-         */
-        private boolean isTargetingAvailable(FeatureLookup.FeatureOptions featureOptions) {
-            return Optional.ofNullable(featureOptions)
-                    .filter(it -> StringUtils.hasText(it.userId()) || !CollectionUtils.isEmpty(it.groups()))
-                    .isPresent();
+            return evaluator.evaluate(this, groupIndex.build().resolve(userContext));
         }
 
     }
@@ -0,0 +1,173 @@
+package com.bootstrap.feature.management.appconfig;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.cache.ConcurrentTinyLfuCache;
+import com.bootstrap.feature.management.cache.OffHeapBooleanCache;
+import com.bootstrap.feature.management.targeting.GroupIndex;
+
+/**
+ * Size bounded cache of feature evaluation results shared by the root manager and its snapshots. Results are keyed by
+ * compact composite {@linkplain Key} of evaluator revision, user identifier hash and group membership fingerprint, as
+ * these are the only inputs compiled evaluation depends on.
+ * <br/>
+ * Nothing is purged upon configuration refresh: evaluators of unchanged features are taken over by the next snapshot
+ * version along with their revision, so their results keep being served, while results of changed features are no
+ * longer reachable and are evicted by the cache size policy.
+ * <br/>
+ * User and groups are represented by 64-bit hashes, so two different users share cached result only if both of their
+ * hashes collide, which is negligible for any realistic number of users.
+ */
+public final class FeatureResultCache {
+
+    /**
+     * Result cache variation caching nothing.
+     */
+    public static final FeatureResultCache DISABLED = new FeatureResultCache();
+
+    private final Cache<Key, Boolean> results;
+
+    private final long maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private FeatureResultCache() {
+        this.results = null;
+        this.maximumSize = 0;
+    }
+
+    /**
+     * Creates result cache holding up to specified number of results.
+     *
+     * @param maximumSize maximum number of cached results
+     */
+    public FeatureResultCache(int maximumSize) {
+        Assert.isTrue(maximumSize > 0, "Result cache maximum size should be represented as positive value.");
+        this.results = new ConcurrentTinyLfuCache<>(maximumSize);
+        this.maximumSize = maximumSize;
+    }
+
+    private FeatureResultCache(OffHeapBooleanCache<Key> results) {
+        this.results = results;
+        this.maximumSize = results.getMaximumSize();
+    }
+
+    /**
+     * Creates result cache holding results in direct memory, so millions of per-user results neither occupy the heap
+     * nor prolong GC pauses.
+     *
+     * @param capacity direct memory reserved for results, 32 bytes per result
+     * @return off-heap result cache
+     */
+    public static FeatureResultCache offHeap(DataSize capacity) {
+        Assert.notNull(capacity, "Result cache off-heap capacity should be represented as non null value.");
+        return new FeatureResultCache(new OffHeapBooleanCache<>(capacity.toBytes()));
+    }
+
+    /**
+     * Evaluates specified feature unless its result for the same user and groups is cached.
+     *
+     * @param evaluator compiled feature evaluator
+     * @param context   feature evaluation context
+     * @param groups    user groups membership resolved against the evaluated configuration group index
+     * @return evaluated state of the feature
+     */
+    boolean evaluate(FeatureEvaluator evaluator, FeatureOptionsImpl.FeatureContext context,
+            GroupIndex.Membership groups) {
+        if (results == null) {
+            return evaluator.evaluate(context, groups);
+        }
+
+        var key = new Key(evaluator.revision(), context.userContext().userHash(), groups.fingerprint());
+        var result = results.get(key);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = evaluator.evaluate(context, groups);
+        results.put(key, result);
+        return result;
+    }
+
+    /**
+     * Checks whether results are cached at all.
+     *
+     * @return true if results are cached
+     */
+    public boolean isEnabled() {
+        return results != null;
+    }
+
+    /**
+     * Maximum number of cached results.
+     *
+     * @return cache capacity
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Number of evaluations served from the cache.
+     *
+     * @return cache hits count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of evaluations computed and cached.
+     *
+     * @return cache misses count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Ratio of evaluations served from the cache.
+     *
+     * @return hit ratio within [0, 1] range, zero if nothing has been evaluated yet
+     */
+    public double getHitRatio() {
+        var hitCount = getHits();
+        var total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Cached result key.
+     *
+     * @param revision revision of the evaluated feature evaluator
+     * @param user     user identifier hash
+     * @param groups   fingerprint of the user groups known to the evaluated configuration
+     */
+    record Key(long revision, long user, long groups) implements OffHeapBooleanCache.FixedWidthKey {
+
+        @Override
+        public long word(int index) {
+            return switch (index) {
+                case 0 -> revision;
+                case 1 -> user;
+                default -> groups;
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            var hash = revision * 0x9E3779B97F4A7C15L ^ user ^ Long.rotateLeft(groups, 32);
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+    }
+
+}
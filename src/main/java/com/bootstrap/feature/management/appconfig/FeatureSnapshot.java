@@ -0,0 +1,77 @@
+package com.bootstrap.feature.management.appconfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.azure.spring.cloud.feature.manager.entities.Feature;
+import org.springframework.util.CollectionUtils;
+
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.bootstrap.feature.management.targeting.GroupIndex;
+
+/**
+ * Immutable versioned view of compiled app configuration features. A new version is published atomically upon every
+ * configuration refresh and structurally shares evaluators of unchanged features with the previous version, so taking a
+ * snapshot is nothing but capturing the current version reference.
+ *
+ * @param version    monotonically increasing configuration version
+ * @param evaluators immutable map of compiled evaluators keyed by feature name
+ * @param groups     case-insensitive index of the audience groups interned at refresh time
+ */
+record FeatureSnapshot(long version, Map<String, FeatureEvaluator> evaluators, GroupIndex groups) {
+
+    /**
+     * Initial version standing for not yet refreshed configuration.
+     */
+    static final FeatureSnapshot EMPTY = new FeatureSnapshot(0, Collections.emptyMap(), GroupIndex.empty(true));
+
+    /**
+     * Compiles next version of the snapshot from the refreshed feature definitions. Evaluators of the features which
+     * definition has not been changed are taken over from the current version, group ids interned by the current
+     * version are kept, so their group bitsets stay valid. Once retired group ids outnumber the ones in use, groups are
+     * interned from scratch instead and only evaluators of the renumbered groups are replaced.
+     *
+     * @param features          refreshed feature management map keyed by feature name
+     * @param bloomFilterPolicy targeted users Bloom filter pre-check policy
+     * @return next snapshot version
+     */
+    FeatureSnapshot next(Map<String, Feature> features, BloomFilterPolicy bloomFilterPolicy) {
+        var nextGroups = groups.toBuilder();
+        var next = compile(features, nextGroups, bloomFilterPolicy);
+        if (nextGroups.isSparse()) {
+            nextGroups = nextGroups.compact();
+            next = compile(features, nextGroups, bloomFilterPolicy);
+        }
+
+        return new FeatureSnapshot(version + 1, next, nextGroups.build());
+    }
+
+    /**
+     * Resolves compiled evaluator of the specified feature.
+     *
+     * @param name feature name
+     * @return compiled feature evaluator or null if feature is not defined
+     */
+    FeatureEvaluator get(String name) {
+        return name == null ? null : evaluators.get(name);
+    }
+
+    private Map<String, FeatureEvaluator> compile(Map<String, Feature> features, GroupIndex.Builder nextGroups,
+            BloomFilterPolicy bloomFilterPolicy) {
+        if (CollectionUtils.isEmpty(features)) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, FeatureEvaluator> next = new HashMap<>(features.size());
+        features.forEach((name, feature) -> {
+            if (name != null && feature != null) {
+                var evaluator = FeatureEvaluator.compile(name, feature, nextGroups, bloomFilterPolicy);
+                var current = evaluators.get(name);
+                next.put(name, evaluator.equals(current) ? current : evaluator);
+            }
+        });
+        return Map.copyOf(next);
+    }
+
+}
@@ -1,15 +1,25 @@
 package com.bootstrap.feature.management.cache;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.FactoryBean;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import com.bootstrap.feature.management.configuration.properties.CacheProperties;
 
 /**
- * Cache abstraction intended only for non-concurrent access patterns.
+ * Cache abstraction. Every implementation is safe for concurrent use, {@linkplain InMemorySignalCache} serializes
+ * access by a lock and suits low concurrency, {@linkplain ConcurrentTinyLfuCache} never blocks reads and suits highly
+ * concurrent access patterns. Implementation is chosen by {@linkplain CacheProperties#type()}.
+ * <br/>
+ * {@linkplain OffHeapBooleanCache} keeps boolean values out of the heap and is not created by the factory, as its keys
+ * and values are restricted.
  *
  * @param <K> key type parameter
  * @param <V> value type parameter
@@ -29,6 +39,56 @@ public interface Cache<K, V> {
      */
     V get(Object key);
 
+    /**
+     * Get cache entry by specified key value, loading it by specified loader if it is missing. Concurrent misses of the
+     * same key are coalesced into a single load shared by every caller, failed or empty loads are not cached.
+     *
+     * @param key    cache entry key
+     * @param loader publisher of the value to load and cache under specified key
+     * @return publisher of the cached or loaded value, empty if loader completes empty
+     */
+    Mono<V> get(K key, Function<? super K, ? extends Mono<? extends V>> loader);
+
+    /**
+     * Blocking counterpart of {@linkplain #get(Object, Function)}. Concurrent misses of the same key wait for the
+     * value computed by the first caller, mapping function must not load the same key recursively.
+     *
+     * @param key             cache entry key
+     * @param mappingFunction function computing the value to cache under specified key
+     * @return cached or computed value, null if mapping function returns null
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Get cache entries by specified keys. By default looks every key up one by one, implementations are encouraged to
+     * look the whole batch up at once.
+     *
+     * @param keys cache entry keys
+     * @return unmodifiable map of the cached entries, missing keys are left out
+     */
+    default Map<K, V> getAll(Iterable<? extends K> keys) {
+        var found = new HashMap<K, V>();
+        for (K key : keys) {
+            var value = get(key);
+            if (value != null) {
+                found.put(key, value);
+            }
+        }
+        return Map.copyOf(found);
+    }
+
+    /**
+     * Get cache entries by specified keys, loading every missing key by a single call of specified batch loader. Keys
+     * already being loaded by concurrent callers are joined rather than loaded again, failed loads are not cached.
+     *
+     * @param keys   cache entry keys
+     * @param loader publisher of the values to load and cache under specified missing keys, keys it leaves out are
+     *               left out of the result as well
+     * @return publisher of the unmodifiable map of cached and loaded entries
+     */
+    Mono<Map<K, V>> getAll(Iterable<? extends K> keys,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends V>>> loader);
+
     /**
      * Place/cache provided value under specified key.
      *
@@ -38,6 +98,16 @@ public interface Cache<K, V> {
      */
     V put(K key, V value);
 
+    /**
+     * Place/cache provided entries. By default places every entry one by one, implementations are encouraged to place
+     * the whole batch at once.
+     *
+     * @param entries cache entries
+     */
+    default void putAll(Map<? extends K, ? extends V> entries) {
+        entries.forEach(this::put);
+    }
+
     /**
      * Remove/release entry by specified key.
      *
@@ -51,6 +121,13 @@ public interface Cache<K, V> {
      */
     void clear();
 
+    /**
+     * Hit, miss, removal and load statistics recorded by this cache.
+     *
+     * @return cache statistics
+     */
+    CacheStatistics statistics();
+
     // todo --->>>:
     /**
      * Factory type responsible for consumer identities cache creation.
@@ -70,11 +147,18 @@ public interface Cache<K, V> {
         public Cache<K, V> getObject() {
             return Optional.ofNullable(cacheProperties)
                     .filter(CacheProperties::enabled)
-                    .<Cache<K, V>>map(InMemorySignalCache::new)
+                    .<Cache<K, V>>map(CacheFactory::create)
                     .orElse(null);
 
         }
 
+        private static <K, V> Cache<K, V> create(CacheProperties cacheProperties) {
+            return switch (cacheProperties.type()) {
+                case IN_MEMORY -> new InMemorySignalCache<>(cacheProperties);
+                case CONCURRENT -> new ConcurrentTinyLfuCache<>(cacheProperties);
+            };
+        }
+
         // todo <<<---:
         @Override
         public Class<?> getObjectType() {
@@ -0,0 +1,137 @@
+package com.bootstrap.feature.management.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of {@linkplain Cache} lookups, removals and loads, recorded by the cache itself. Size based evictions,
+ * expirations and entries dropped once their values have been collected by GC are counted separately, so the cache
+ * could be sized by its evictions rather than by guessing.
+ */
+public final class CacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder collections = new LongAdder();
+
+    private final LongAdder loadSuccesses = new LongAdder();
+
+    private final LongAdder loadFailures = new LongAdder();
+
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void evicted() {
+        evictions.increment();
+    }
+
+    void expired() {
+        expirations.increment();
+    }
+
+    void collected() {
+        collections.increment();
+    }
+
+    void loaded(boolean success, long loadTimeNanos) {
+        (success ? loadSuccesses : loadFailures).increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    /**
+     * Number of lookups served from the cache.
+     *
+     * @return hits count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups not served from the cache, expired and collected entries included.
+     *
+     * @return misses count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Ratio of lookups served from the cache.
+     *
+     * @return hit ratio, zero if nothing has been looked up yet
+     */
+    public double getHitRatio() {
+        var hitCount = getHits();
+        var total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Number of entries evicted to keep the cache within its capacity.
+     *
+     * @return evictions count
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Number of entries dropped once expired as per {@linkplain
+     * com.bootstrap.feature.management.configuration.properties.CacheProperties#expiry()}.
+     *
+     * @return expirations count
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * Number of entries dropped once their soft or weak referenced values have been collected by GC.
+     *
+     * @return collected entries count
+     */
+    public long getCollections() {
+        return collections.sum();
+    }
+
+    /**
+     * Number of loads completed with a value, refreshes included.
+     *
+     * @return successful loads count
+     */
+    public long getLoadSuccesses() {
+        return loadSuccesses.sum();
+    }
+
+    /**
+     * Number of loads failed or completed empty, refreshes included.
+     *
+     * @return failed loads count
+     */
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    /**
+     * Time spent loading values, both successful and failed loads included.
+     *
+     * @return total load time in nanoseconds
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime.sum();
+    }
+
+}
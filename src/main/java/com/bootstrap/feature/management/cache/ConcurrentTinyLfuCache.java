@@ -0,0 +1,531 @@
+package com.bootstrap.feature.management.cache;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+/**
+ * Thread safe size bounded {@linkplain Cache} implementation intended for highly concurrent access patterns, applying
+ * W-TinyLFU style admission and eviction.
+ * <br/>
+ * Entries are held by {@linkplain ConcurrentHashMap}, so reads never block. Instead of reordering access lists on
+ * every read, accessed entries are recorded into lossy striped read buffers and replayed in batches under the eviction
+ * lock, which is only tried (never waited for) on the read path.
+ * <br/>
+ * New entries are admitted to a small LRU window (1% of capacity). Entries leaving the window compete with the eldest
+ * entry of the main segmented LRU space (probation and protected segments) and the one with lower estimated frequency
+ * is evicted, frequencies are estimated by {@linkplain FrequencySketch}. Entries could additionally expire as per
+ * {@linkplain CacheProperties#expiry()}, expired entries are dropped once looked up.
+ *
+ * @param <K> key type parameter
+ * @param <V> value type parameter
+ */
+public class ConcurrentTinyLfuCache<K, V> extends AbstractMap<K, V> implements InMemoryCache<K, V> {
+
+    private static final int READ_BUFFER_STRIPES =
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final ReadBuffer<K, V>[] readBuffers;
+
+    private final FrequencySketch sketch;
+
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+
+    private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+
+    private final AccessOrderQueue<K, V> protect = new AccessOrderQueue<>();
+
+    private final ExpiryPolicy expiry;
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    private final SingleFlight<K, V> loads;
+
+    private final int maximumSize;
+
+    private final int windowMaximum;
+
+    private final int protectedMaximum;
+
+    public ConcurrentTinyLfuCache(CacheProperties cacheProperties) {
+        this(cacheProperties.concurrent().maximumSize(), ExpiryPolicy.of(cacheProperties.expiry()));
+    }
+
+    public ConcurrentTinyLfuCache(int maximumSize) {
+        this(maximumSize, ExpiryPolicy.NONE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentTinyLfuCache(int maximumSize, ExpiryPolicy expiry) {
+        Assert.isTrue(maximumSize > 0, "Cache maximum size should be represented as positive value.");
+
+        this.maximumSize = maximumSize;
+        this.expiry = expiry;
+        this.loads = expiry.isRefreshing() ? new SingleFlight<>(this, this::isRefreshDue) : new SingleFlight<>(this);
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(maximumSize);
+        this.readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        var node = data.get(key);
+        if (node == null) {
+            statistics.miss();
+            return null;
+        }
+        if (expiry.isTimed()) {
+            var now = expiry.now();
+            if (expiry.isExpired(node.writeTime, node.accessTime, now)) {
+                expire(node);
+                statistics.miss();
+                return null;
+            }
+            if (expiry.isAccessTimed()) {
+                node.accessTime = now;
+            }
+        }
+        statistics.hit();
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Assert.notNull(key, "Source parameter should be represented as non null value.");
+        if (value == null) {
+            return null;
+        }
+
+        var now = expiry.now();
+        while (true) {
+            var existing = data.get(key);
+            if (existing == null) {
+                var node = new Node<>(key, spread(key.hashCode()), value, now);
+                existing = data.putIfAbsent(key, node);
+                if (existing == null) {
+                    afterWrite(node);
+                    return null;
+                }
+            }
+            var previous = existing.value;
+            existing.value = value;
+            existing.writeTime = now;
+            existing.accessTime = now;
+            // node evicted or expired before it has been updated is no longer mapped, the value is put by a new node
+            if (data.replace(key, existing, existing)) {
+                afterRead(existing);
+                return previous;
+            }
+        }
+    }
+
+    @Override
+    public Mono<V> get(K key, Function<? super K, ? extends Mono<? extends V>> loader) {
+        return loads.get(key, loader);
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAll(Iterable<? extends K> keys,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends V>>> loader) {
+        return loads.getAll(keys, loader);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return loads.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V remove(Object key) {
+        var node = key == null ? null : data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        return node.value;
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            data.values().forEach(node -> node.removed = true);
+            data.clear();
+            for (ReadBuffer<K, V> readBuffer : readBuffers) {
+                readBuffer.drain(node -> { });
+            }
+            window.clear();
+            probation.clear();
+            protect.clear();
+            sketch.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var node = key == null ? null : data.get(key);
+        return node != null && !expiry.isExpired(node.writeTime, node.accessTime, expiry.now());
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Set.copyOf(data.keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        var now = expiry.now();
+        return data.values()
+                .stream()
+                .filter(node -> !expiry.isExpired(node.writeTime, node.accessTime, now))
+                .map(node -> node.value)
+                .toList();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        var now = expiry.now();
+        return data.entrySet()
+                .stream()
+                .filter(entry -> !expiry.isExpired(entry.getValue().writeTime, entry.getValue().accessTime, now))
+                .map(entry -> new SimpleEntry<>(entry.getKey(), entry.getValue().value))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Maximum number of entries held by the cache.
+     *
+     * @return cache capacity
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    private boolean isRefreshDue(K key) {
+        var node = data.get(key);
+        return node != null && expiry.isRefreshDue(node.writeTime, expiry.now());
+    }
+
+    private void expire(Node<K, V> node) {
+        if (data.remove(node.key, node)) {
+            statistics.expired();
+            evictionLock.lock();
+            try {
+                unlink(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterRead(Node<K, V> node) {
+        var readBuffer = readBuffers[stripe()];
+        if (readBuffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                readBuffer.drain(this::onAccess);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            if (!node.removed) {
+                sketch.increment(node.hash);
+                node.queue = Node.WINDOW;
+                window.addLast(node);
+                evict();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> readBuffer : readBuffers) {
+            readBuffer.drain(this::onAccess);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.hash);
+        if (node.removed) {
+            return;
+        }
+        switch (node.queue) {
+            case Node.WINDOW -> window.moveToLast(node);
+            case Node.PROBATION -> {
+                probation.remove(node);
+                node.queue = Node.PROTECTED;
+                protect.addLast(node);
+                while (protect.size > protectedMaximum) {
+                    var demoted = protect.pollFirst();
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case Node.PROTECTED -> protect.moveToLast(node);
+            default -> {
+                // not linked yet, linked by the pending write
+            }
+        }
+    }
+
+    /**
+     * Moves window overflow to the probation segment, then evicts either the window candidate or the probation victim
+     * whichever is less frequent until the cache fits its capacity.
+     */
+    private void evict() {
+        while (window.size > windowMaximum) {
+            var candidate = window.pollFirst();
+            candidate.queue = Node.PROBATION;
+            probation.addLast(candidate);
+        }
+
+        while (window.size + probation.size + protect.size > maximumSize) {
+            var victim = probation.head != null ? probation.head : protect.head;
+            var candidate = probation.tail;
+            if (candidate == null || candidate == victim) {
+                evict(victim);
+            } else {
+                evict(sketch.frequency(candidate.hash) > sketch.frequency(victim.hash) ? victim : candidate);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        data.remove(node.key, node);
+        statistics.evicted();
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.removed = true;
+        switch (node.queue) {
+            case Node.WINDOW -> window.remove(node);
+            case Node.PROBATION -> probation.remove(node);
+            case Node.PROTECTED -> protect.remove(node);
+            default -> {
+                // not linked yet, pending write observes removal
+            }
+        }
+        node.queue = Node.DETACHED;
+    }
+
+    private static int stripe() {
+        var id = Thread.currentThread().getId();
+        return spread((int) (id ^ (id >>> 32))) & (READ_BUFFER_STRIPES - 1);
+    }
+
+    private static int spread(int hash) {
+        var h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Cache entry along with its access order links, links and queue are guarded by the eviction lock.
+     */
+    private static final class Node<K, V> {
+
+        static final int DETACHED = -1;
+
+        static final int WINDOW = 0;
+
+        static final int PROBATION = 1;
+
+        static final int PROTECTED = 2;
+
+        final K key;
+
+        final int hash;
+
+        volatile V value;
+
+        volatile long writeTime;
+
+        volatile long accessTime;
+
+        int queue = DETACHED;
+
+        boolean removed;
+
+        Node<K, V> prev;
+
+        Node<K, V> next;
+
+        Node(K key, int hash, V value, long now) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+    }
+
+    /**
+     * Intrusive doubly linked access order queue, eldest entry first.
+     */
+    private static final class AccessOrderQueue<K, V> {
+
+        Node<K, V> head;
+
+        Node<K, V> tail;
+
+        int size;
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node<K, V> pollFirst() {
+            var node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+
+    }
+
+    /**
+     * Lossy bounded buffer of accessed entries. Once full, further accesses are dropped until the buffer is drained,
+     * which only skews recency/frequency estimation and never affects cached values.
+     */
+    private static final class ReadBuffer<K, V> {
+
+        private static final int SIZE = 16;
+
+        private final AtomicReferenceArray<Node<K, V>> slots = new AtomicReferenceArray<>(SIZE);
+
+        private final AtomicInteger writes = new AtomicInteger();
+
+        /**
+         * Records accessed entry.
+         *
+         * @return true if buffer is full and should be drained
+         */
+        boolean offer(Node<K, V> node) {
+            if (writes.get() >= SIZE) {
+                return true;
+            }
+            var index = writes.getAndIncrement();
+            if (index >= SIZE) {
+                return true;
+            }
+            slots.lazySet(index, node);
+            return index == SIZE - 1;
+        }
+
+        void drain(Consumer<Node<K, V>> consumer) {
+            var count = Math.min(writes.get(), SIZE);
+            for (int i = 0; i < count; i++) {
+                var node = slots.get(i);
+                if (node != null) {
+                    slots.lazySet(i, null);
+                    consumer.accept(node);
+                }
+            }
+            writes.set(0);
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConcurrentTinyLfuCache<?, ?> that)) return false;
+        if (!super.equals(o)) return false;
+        return maximumSize == that.maximumSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), maximumSize);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.bootstrap.feature.management.cache;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+/**
+ * Time based expiry and refresh policy of cache entries. Expiry is checked lazily, expired entry is dropped once it is
+ * looked up and is otherwise evicted by the cache size policy, so no timer thread is involved.
+ */
+final class ExpiryPolicy {
+
+    /**
+     * Policy expiring and refreshing nothing.
+     */
+    static final ExpiryPolicy NONE = new ExpiryPolicy(0, 0, 0);
+
+    private final long expireAfterWriteNanos;
+
+    private final long expireAfterAccessNanos;
+
+    private final long refreshAfterWriteNanos;
+
+    private ExpiryPolicy(long expireAfterWriteNanos, long expireAfterAccessNanos, long refreshAfterWriteNanos) {
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.refreshAfterWriteNanos = refreshAfterWriteNanos;
+    }
+
+    /**
+     * Creates policy of the specified expiry properties.
+     *
+     * @param expiry expiry properties, unspecified durations are disabled
+     * @return expiry policy
+     */
+    static ExpiryPolicy of(CacheProperties.ExpiryProperties expiry) {
+        if (expiry == null
+                || expiry.expireAfterWrite() == null
+                && expiry.expireAfterAccess() == null
+                && expiry.refreshAfterWrite() == null) {
+            return NONE;
+        }
+        return new ExpiryPolicy(nanos(expiry.expireAfterWrite()), nanos(expiry.expireAfterAccess()),
+                nanos(expiry.refreshAfterWrite()));
+    }
+
+    /**
+     * Current time to stamp and check entries with, not read at all unless any duration is specified.
+     *
+     * @return current time in nanoseconds
+     */
+    long now() {
+        return isTimed() ? System.nanoTime() : 0;
+    }
+
+    boolean isTimed() {
+        return this != NONE;
+    }
+
+    boolean isAccessTimed() {
+        return expireAfterAccessNanos > 0;
+    }
+
+    boolean isRefreshing() {
+        return refreshAfterWriteNanos > 0;
+    }
+
+    /**
+     * Checks whether entry is expired.
+     *
+     * @param writeTime  time entry has been created or replaced at
+     * @param accessTime time entry has been last read or written at
+     * @param now        current time
+     * @return true if entry should not be served anymore
+     */
+    boolean isExpired(long writeTime, long accessTime, long now) {
+        return expireAfterWriteNanos > 0 && now - writeTime >= expireAfterWriteNanos
+                || expireAfterAccessNanos > 0 && now - accessTime >= expireAfterAccessNanos;
+    }
+
+    /**
+     * Checks whether entry should be reloaded in background.
+     *
+     * @param writeTime time entry has been created or replaced at
+     * @param now       current time
+     * @return true if entry is due to refresh
+     */
+    boolean isRefreshDue(long writeTime, long now) {
+        return refreshAfterWriteNanos > 0 && now - writeTime >= refreshAfterWriteNanos;
+    }
+
+    private static long nanos(Duration duration) {
+        if (duration == null) {
+            return 0;
+        }
+        Assert.isTrue(!duration.isNegative() && !duration.isZero(),
+                "Cache expiry duration should be represented as positive value.");
+        return duration.toNanos();
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.bootstrap.feature.management.cache;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch of 4-bit counters estimating popularity of cache keys within the recent history. Every counter is
+ * halved once the number of increments reaches ten times the cache capacity, so the sketch follows changes of the
+ * access pattern. Not thread safe, accessed under the eviction lock of the owning cache.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int MAXIMUM_COUNT = 15;
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private int size;
+
+    FrequencySketch(int maximumSize) {
+        var capacity = Integer.highestOneBit(Math.max(maximumSize, 16) - 1) << 1;
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = 10 * capacity;
+    }
+
+    /**
+     * Estimates number of occurrences of the specified key hash, up to fifteen.
+     *
+     * @param hash spread key hash
+     * @return estimated frequency
+     */
+    int frequency(int hash) {
+        var frequency = MAXIMUM_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            var offset = counterOffset(hash, i);
+            var count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xF);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments occurrences of the specified key hash, periodically aging every counter.
+     *
+     * @param hash spread key hash
+     */
+    void increment(int hash) {
+        var added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            var index = indexOf(hash, i);
+            var offset = counterOffset(hash, i);
+            if (((table[index] >>> offset) & 0xF) != MAXIMUM_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size /= 2;
+    }
+
+    private int indexOf(int hash, int i) {
+        var h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int counterOffset(int hash, int i) {
+        return (((hash >>> (i << 3)) & 3) << 2 | i) << 2;
+    }
+
+}
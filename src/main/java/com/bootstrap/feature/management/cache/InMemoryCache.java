@@ -1,6 +1,7 @@
 package com.bootstrap.feature.management.cache;
 
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Default memory-based {@linkplain Cache} marker interface.
@@ -9,4 +10,24 @@ import java.util.Map;
  * @param <V> value type parameter
  */
 public interface InMemoryCache<K, V> extends Cache<K, V>, Map<K, V> {
+
+    /**
+     * Single-flight variation of the {@linkplain Map#computeIfAbsent(Object, Function)} as per
+     * {@linkplain Cache#computeIfAbsent(Object, Function)} contract.
+     *
+     * @param key             cache entry key
+     * @param mappingFunction function computing the value to cache under specified key
+     * @return cached or computed value, null if mapping function returns null
+     */
+    @Override
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Batch variation of the {@linkplain Map#put(Object, Object)} as per {@linkplain Cache#putAll(Map)} contract.
+     *
+     * @param entries cache entries
+     */
+    @Override
+    void putAll(Map<? extends K, ? extends V> entries);
+
 }
@@ -1,22 +1,38 @@
 package com.bootstrap.feature.management.cache;
 
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
 
 import com.bootstrap.feature.management.configuration.properties.CacheProperties;
 
 /**
- * Default memory-based {@linkplain Cache} implementation.
+ * Default memory-based {@linkplain Cache} implementation. Access ordered map mutates its order on every read and
+ * drains collected references, so every operation is serialized by a single lock. Prefer
+ * {@linkplain ConcurrentTinyLfuCache} for highly concurrent access patterns.
+ * <br/>
+ * Values are held by references of {@linkplain CacheProperties.InMemoryCacheProperties#references()} strength and
+ * could additionally expire as per {@linkplain CacheProperties#expiry()}, expired entries are dropped once looked up.
+ * Entries dropped once their values have been collected are counted apart from size based evictions by
+ * {@linkplain #statistics()}.
+ * <br/>
+ * Batch operations take the lock and drain collected references once per batch rather than once per entry.
  *
  * @param <K> key type parameter
  * @param <V> value type parameter
@@ -27,65 +43,190 @@ public class InMemorySignalCache<K, V> extends AbstractMap<K, V> implements InMe
 
     private final ItemCache<K, V> itemCache;
 
+    private final CacheProperties.ReferenceStrength references;
+
+    private final ExpiryPolicy expiry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    private final SingleFlight<K, V> loads;
+
     public InMemorySignalCache(CacheProperties cacheProperties) {
         queue = new ReferenceQueue<>();
-        itemCache = new ItemCache<>(cacheProperties.inMemory(), queue);
+        itemCache = new ItemCache<>(cacheProperties.inMemory(), queue, statistics);
+        references = cacheProperties.inMemory().references();
+        expiry = ExpiryPolicy.of(cacheProperties.expiry());
+        loads = expiry.isRefreshing() ? new SingleFlight<>(this, this::isRefreshDue) : new SingleFlight<>(this);
     }
 
     @Override
     public V get(Object source) {
-        return Optional.ofNullable(source)
-                .map(itemCache::get)
-                .map(ItemReference::get)
-                .orElse(null);
+        if (source == null) {
+            return null;
+        }
+        return guarded(() -> {
+            itemCache.drain();
+            return getItem(source, expiry.now());
+        });
+    }
+
+    @Override
+    public Map<K, V> getAll(Iterable<? extends K> sources) {
+        return guarded(() -> {
+            itemCache.drain();
+            var now = expiry.now();
+            var found = new HashMap<K, V>();
+            for (K source : sources) {
+                var value = source == null ? null : getItem(source, now);
+                if (value != null) {
+                    found.put(source, value);
+                }
+            }
+            return Map.copyOf(found);
+        });
+    }
+
+    @Override
+    public Mono<V> get(K key, Function<? super K, ? extends Mono<? extends V>> loader) {
+        return loads.get(key, loader);
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAll(Iterable<? extends K> keys,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends V>>> loader) {
+        return loads.getAll(keys, loader);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return loads.computeIfAbsent(key, mappingFunction);
     }
 
     @Override
     public V put(K source, V signal) {
         Assert.notNull(source, "Source parameter should be represented as non null value.");
 
-        return isItemCacheable(signal) ? putItem(source, signal) : null;
+        return isItemCacheable(signal) ? guarded(() -> putItem(source, signal)) : null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> signals) {
+        signals.keySet().forEach(source ->
+                Assert.notNull(source, "Source parameter should be represented as non null value."));
+
+        guarded(() -> {
+            signals.forEach((source, signal) -> {
+                if (isItemCacheable(signal)) {
+                    putItem(source, signal);
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public V remove(Object source) {
+        return guarded(() -> Optional.ofNullable(itemCache.remove(source))
+                .map(Item::get)
+                .orElse(null));
     }
 
     @Override
     public void clear() {
-        itemCache.clear();
+        guarded(() -> {
+            itemCache.clear();
+            return null;
+        });
     }
 
     @Override
     public Set<K> keySet() {
-        return itemCache.keySet();
+        return guarded(() -> Set.copyOf(itemCache.keySet()));
     }
 
     @Override
     public Collection<V> values() {
-        return itemCache.values()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(ItemReference::get)
-                .filter(Objects::nonNull)
-                .toList();
+        return guarded(() -> {
+            var now = expiry.now();
+            return itemCache.values()
+                    .stream()
+                    .filter(item -> isItemAvailable(item, now))
+                    .map(Item::get)
+                    .toList();
+        });
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return itemCache.entrySet()
-                .stream()
-                .filter(this::isReferenceAvailable)
-                .map(entry -> new SimpleEntry<>(entry.getKey(), entry.getValue().get()))
-                .collect(Collectors.toSet());
+        return guarded(() -> {
+            var now = expiry.now();
+            return itemCache.entrySet()
+                    .stream()
+                    .filter(entry -> isItemAvailable(entry.getValue(), now))
+                    .map(entry -> new SimpleEntry<>(entry.getKey(), entry.getValue().get()))
+                    .collect(Collectors.toSet());
+        });
     }
 
     @Override
     public int size() {
-        return itemCache.size();
+        return guarded(itemCache::size);
     }
 
-    private V putItem(K source, V signal) {
-        ItemReference<K, V> itemReference = new ItemReference<>(signal, queue, source);
+    @Override
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    private boolean isRefreshDue(K source) {
+        return guarded(() -> {
+            var item = itemCache.get(source);
+            return item != null && expiry.isRefreshDue(item.writeTime, expiry.now());
+        });
+    }
+
+    private <T> T guarded(Supplier<T> operation) {
+        lock.lock();
+        try {
+            return operation.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private V getItem(Object source, long now) {
+        var item = itemCache.getUndrained(source);
+        if (item == null) {
+            statistics.miss();
+            return null;
+        }
+        if (expiry.isExpired(item.writeTime, item.accessTime, now)) {
+            itemCache.remove(source);
+            statistics.expired();
+            statistics.miss();
+            return null;
+        }
+        item.accessTime = now;
+        var value = item.get();
+        if (value != null) {
+            statistics.hit();
+        } else {
+            statistics.miss();
+        }
+        return value;
+    }
 
-        return Optional.ofNullable(itemCache.put(source, itemReference))
-                .map(ItemReference::get)
+    private V putItem(K source, V signal) {
+        Item<K, V> item = switch (references) {
+            case STRONG -> new Item<>(signal, null, expiry.now());
+            case SOFT -> new Item<>(null, new SoftItemReference<>(signal, queue, source), expiry.now());
+            case WEAK -> new Item<>(null, new WeakItemReference<>(signal, queue, source), expiry.now());
+        };
+
+        return Optional.ofNullable(itemCache.put(source, item))
+                .map(Item::get)
                 .orElse(null);
     }
 
@@ -93,14 +234,11 @@ public class InMemorySignalCache<K, V> extends AbstractMap<K, V> implements InMe
         return Optional.ofNullable(item).isPresent();
     }
 
-    private boolean isReferenceAvailable(Entry<K, ItemReference<K, V>> entry) {
-        return Optional.ofNullable(entry)
-                .map(Entry::getValue)
-                .map(ItemReference::get)
-                .isPresent();
+    private boolean isItemAvailable(Item<K, V> item, long now) {
+        return item != null && item.get() != null && !expiry.isExpired(item.writeTime, item.accessTime, now);
     }
 
-    private static class ItemCache<K, V> extends LinkedHashMap<K, ItemReference<K, V>> {
+    private static class ItemCache<K, V> extends LinkedHashMap<K, Item<K, V>> {
 
         private static final long serialVersionUID = 1L;
 
@@ -108,28 +246,57 @@ public class InMemorySignalCache<K, V> extends AbstractMap<K, V> implements InMe
 
         private final transient ReferenceQueue<V> queue;
 
-        ItemCache(CacheProperties.InMemoryCacheProperties cacheProperties, ReferenceQueue<V> queue) {
+        private final transient CacheStatistics statistics;
+
+        ItemCache(CacheProperties.InMemoryCacheProperties cacheProperties, ReferenceQueue<V> queue,
+                CacheStatistics statistics) {
             super(cacheProperties.min(), cacheProperties.getRatio(), true);
             this.limit = cacheProperties.max();
             this.queue = queue;
+            this.statistics = statistics;
         }
 
         @Override
-        protected boolean removeEldestEntry(Map.Entry<K, ItemReference<K, V>> eldest) {
-            return super.size() > limit;
+        protected boolean removeEldestEntry(Map.Entry<K, Item<K, V>> eldest) {
+            if (super.size() > limit) {
+                statistics.evicted();
+                return true;
+            }
+            return false;
         }
 
+        /**
+         * Drains collected references first.
+         */
         @Override
-        @SuppressWarnings("unchecked")
-        public ItemReference<K, V> get(Object key) {
-            for (ItemReference<K, V> ref; (ref = (ItemReference<K, V>) queue.poll()) != null; ) {
-                K source = ref.source;
-                remove(source);
-            }
+        public Item<K, V> get(Object key) {
+            drain();
+            return super.get(key);
+        }
 
+        /**
+         * Looks entry up with no drain, as batch operations drain collected references once per batch.
+         */
+        Item<K, V> getUndrained(Object key) {
             return super.get(key);
         }
 
+        /**
+         * Removes entries of collected references. Entry is removed only if it still holds the collected reference,
+         * so value put again under the same key survives collection of its predecessor.
+         */
+        @SuppressWarnings("unchecked")
+        void drain() {
+            for (Reference<? extends V> ref; (ref = queue.poll()) != null; ) {
+                K source = ((ItemReference<K>) ref).source();
+                var item = super.get(source);
+                if (item != null && item.reference == ref) {
+                    remove(source);
+                    statistics.collected();
+                }
+            }
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -144,15 +311,71 @@ public class InMemorySignalCache<K, V> extends AbstractMap<K, V> implements InMe
         }
     }
 
-    private static class ItemReference<K, V> extends SoftReference<V> {
+    /**
+     * Cached value held either strongly or by reference along with its write and access times, guarded by the lock.
+     */
+    private static class Item<K, V> {
+
+        private final V value;
+
+        private final Reference<V> reference;
+
+        private final long writeTime;
+
+        private long accessTime;
+
+        Item(V value, Reference<V> reference, long now) {
+            this.value = value;
+            this.reference = reference;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        V get() {
+            return reference == null ? value : reference.get();
+        }
+
+    }
+
+    /**
+     * Reference remembering key of its cache entry, so collected entries could be drained.
+     */
+    private interface ItemReference<K> {
+
+        K source();
+
+    }
+
+    private static class SoftItemReference<K, V> extends SoftReference<V> implements ItemReference<K> {
+
+        private final K source;
+
+        SoftItemReference(V signal, ReferenceQueue<V> queue, K source) {
+            super(signal, queue);
+            this.source = source;
+        }
+
+        @Override
+        public K source() {
+            return source;
+        }
+
+    }
+
+    private static class WeakItemReference<K, V> extends WeakReference<V> implements ItemReference<K> {
 
         private final K source;
 
-        ItemReference(V signal, ReferenceQueue<V> queue, K source) {
+        WeakItemReference(V signal, ReferenceQueue<V> queue, K source) {
             super(signal, queue);
             this.source = source;
         }
 
+        @Override
+        public K source() {
+            return source;
+        }
+
     }
 
     @Override
@@ -0,0 +1,324 @@
+package com.bootstrap.feature.management.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+import com.bootstrap.feature.management.util.HashingUtils;
+
+/**
+ * {@linkplain Cache} of boolean values held in direct (off-heap) memory sized in bytes, intended for very large number
+ * of per-user evaluation results that would otherwise bloat the heap and prolong GC pauses.
+ * <br/>
+ * Every entry takes a fixed 32 bytes slot: three 64-bit {@linkplain FixedWidthKey} words followed by the packed value
+ * and clock flags, key words are read straight from the key so lookups allocate nothing. Slots are grouped into 8-way
+ * buckets, key is
+ * looked up within its bucket only and once the bucket is full an entry not read since the last sweep of the bucket
+ * clock hand is replaced. New entries are not marked as referenced until they are read, so a burst of one-off keys
+ * replaces itself rather than the entries being read.
+ * <br/>
+ * Buckets are guarded by striped locks. Memory is allocated upon the first write, entries never expire.
+ *
+ * @param <K> key type parameter
+ */
+public class OffHeapBooleanCache<K extends OffHeapBooleanCache.FixedWidthKey> implements Cache<K, Boolean> {
+
+    /**
+     * Size of a single entry slot in bytes.
+     */
+    public static final int SLOT_SIZE = 32;
+
+    private static final int WAYS = 8;
+
+    private static final int BUCKET_SIZE = SLOT_SIZE * WAYS;
+
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private static final int BUCKETS_PER_SEGMENT = SEGMENT_SIZE / BUCKET_SIZE;
+
+    private static final int LOCK_STRIPES = 1 << 10;
+
+    private static final int META_OFFSET = 24;
+
+    private static final long OCCUPIED = 1;
+
+    private static final long VALUE = 1 << 1;
+
+    private static final long REFERENCED = 1 << 2;
+
+    private static final int HAND_SHIFT = 8;
+
+    private final long buckets;
+
+    private final Object[] locks;
+
+    private final AtomicLong size = new AtomicLong();
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    private final SingleFlight<K, Boolean> loads = new SingleFlight<>(this);
+
+    private volatile ByteBuffer[] segments;
+
+    /**
+     * Creates cache of the specified capacity, rounded down to the whole number of buckets.
+     *
+     * @param capacity off-heap memory capacity in bytes
+     */
+    public OffHeapBooleanCache(long capacity) {
+        Assert.isTrue(capacity >= BUCKET_SIZE,
+                "Off-heap cache capacity should be represented as value of " + BUCKET_SIZE + " bytes at least.");
+
+        this.buckets = capacity / BUCKET_SIZE;
+        this.locks = new Object[(int) Math.min(LOCK_STRIPES, buckets)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Boolean get(Object key) {
+        if (!(key instanceof FixedWidthKey fixedWidthKey)) {
+            return null;
+        }
+        var segments = this.segments;
+        if (segments == null) {
+            statistics.miss();
+            return null;
+        }
+
+        var bucket = bucketOf(fixedWidthKey);
+        var buffer = segments[(int) (bucket / BUCKETS_PER_SEGMENT)];
+        var offset = (int) (bucket % BUCKETS_PER_SEGMENT) * BUCKET_SIZE;
+        synchronized (lockOf(bucket)) {
+            var slot = find(buffer, offset, fixedWidthKey);
+            if (slot < 0) {
+                statistics.miss();
+                return null;
+            }
+            var meta = buffer.getLong(slot + META_OFFSET);
+            buffer.putLong(slot + META_OFFSET, meta | REFERENCED);
+            statistics.hit();
+            return (meta & VALUE) != 0;
+        }
+    }
+
+    @Override
+    public Mono<Boolean> get(K key, Function<? super K, ? extends Mono<? extends Boolean>> loader) {
+        return loads.get(key, loader);
+    }
+
+    @Override
+    public Mono<Map<K, Boolean>> getAll(Iterable<? extends K> keys,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends Boolean>>> loader) {
+        return loads.getAll(keys, loader);
+    }
+
+    @Override
+    public Boolean computeIfAbsent(K key, Function<? super K, ? extends Boolean> mappingFunction) {
+        return loads.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Boolean put(K key, Boolean value) {
+        Assert.notNull(key, "Source parameter should be represented as non null value.");
+        if (value == null) {
+            return null;
+        }
+
+        var bucket = bucketOf(key);
+        var buffer = segments()[(int) (bucket / BUCKETS_PER_SEGMENT)];
+        var offset = (int) (bucket % BUCKETS_PER_SEGMENT) * BUCKET_SIZE;
+        synchronized (lockOf(bucket)) {
+            var slot = find(buffer, offset, key);
+            Boolean previous = null;
+            var meta = OCCUPIED | (value ? VALUE : 0);
+            if (slot >= 0) {
+                var current = buffer.getLong(slot + META_OFFSET);
+                previous = (current & VALUE) != 0;
+                meta |= current & REFERENCED;
+            } else {
+                slot = claim(buffer, offset);
+                buffer.putLong(slot, key.word(0));
+                buffer.putLong(slot + 8, key.word(1));
+                buffer.putLong(slot + 16, key.word(2));
+            }
+            var hand = buffer.getLong(offset + META_OFFSET) & ~0xFFL;
+            buffer.putLong(slot + META_OFFSET, slot == offset ? hand | meta : meta);
+            return previous;
+        }
+    }
+
+    @Override
+    public Boolean remove(Object key) {
+        var segments = this.segments;
+        if (!(key instanceof FixedWidthKey fixedWidthKey) || segments == null) {
+            return null;
+        }
+
+        var bucket = bucketOf(fixedWidthKey);
+        var buffer = segments[(int) (bucket / BUCKETS_PER_SEGMENT)];
+        var offset = (int) (bucket % BUCKETS_PER_SEGMENT) * BUCKET_SIZE;
+        synchronized (lockOf(bucket)) {
+            var slot = find(buffer, offset, fixedWidthKey);
+            if (slot < 0) {
+                return null;
+            }
+            var meta = buffer.getLong(slot + META_OFFSET);
+            buffer.putLong(slot + META_OFFSET, meta & ~0xFFL);
+            size.decrementAndGet();
+            return (meta & VALUE) != 0;
+        }
+    }
+
+    @Override
+    public void clear() {
+        var segments = this.segments;
+        if (segments == null) {
+            return;
+        }
+
+        for (long bucket = 0; bucket < buckets; bucket++) {
+            var buffer = segments[(int) (bucket / BUCKETS_PER_SEGMENT)];
+            var offset = (int) (bucket % BUCKETS_PER_SEGMENT) * BUCKET_SIZE;
+            synchronized (lockOf(bucket)) {
+                for (int slot = offset; slot < offset + BUCKET_SIZE; slot += SLOT_SIZE) {
+                    if ((buffer.getLong(slot + META_OFFSET) & OCCUPIED) != 0) {
+                        size.decrementAndGet();
+                    }
+                    buffer.putLong(slot + META_OFFSET, 0);
+                }
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Number of cached entries.
+     *
+     * @return entries count
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Maximum number of entries held by the cache.
+     *
+     * @return cache capacity in entries
+     */
+    public long getMaximumSize() {
+        return buckets * WAYS;
+    }
+
+    /**
+     * Off-heap memory reserved by the cache, allocated upon the first write.
+     *
+     * @return reserved memory in bytes
+     */
+    public long getCapacity() {
+        return buckets * BUCKET_SIZE;
+    }
+
+    private int find(ByteBuffer buffer, int offset, FixedWidthKey key) {
+        var first = key.word(0);
+        var second = key.word(1);
+        var third = key.word(2);
+        for (int slot = offset; slot < offset + BUCKET_SIZE; slot += SLOT_SIZE) {
+            if ((buffer.getLong(slot + META_OFFSET) & OCCUPIED) != 0
+                    && buffer.getLong(slot) == first
+                    && buffer.getLong(slot + 8) == second
+                    && buffer.getLong(slot + 16) == third) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Takes free slot of the bucket if any, otherwise advances the bucket clock hand clearing referenced flags until
+     * an entry not referenced since the previous sweep is found and takes its slot.
+     */
+    private int claim(ByteBuffer buffer, int offset) {
+        for (int slot = offset; slot < offset + BUCKET_SIZE; slot += SLOT_SIZE) {
+            if ((buffer.getLong(slot + META_OFFSET) & OCCUPIED) == 0) {
+                size.incrementAndGet();
+                return slot;
+            }
+        }
+
+        var head = buffer.getLong(offset + META_OFFSET);
+        var hand = (int) (head >>> HAND_SHIFT) & (WAYS - 1);
+        while (true) {
+            var slot = offset + hand * SLOT_SIZE;
+            hand = (hand + 1) & (WAYS - 1);
+            var meta = buffer.getLong(slot + META_OFFSET);
+            if ((meta & REFERENCED) == 0) {
+                statistics.evicted();
+                var first = buffer.getLong(offset + META_OFFSET);
+                buffer.putLong(offset + META_OFFSET, first & ~(0xFFL << HAND_SHIFT) | (long) hand << HAND_SHIFT);
+                return slot;
+            }
+            buffer.putLong(slot + META_OFFSET, meta & ~REFERENCED);
+        }
+    }
+
+    private ByteBuffer[] segments() {
+        var current = segments;
+        if (current == null) {
+            synchronized (this) {
+                current = segments;
+                if (current == null) {
+                    current = allocate();
+                    segments = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private ByteBuffer[] allocate() {
+        var count = (int) ((buckets + BUCKETS_PER_SEGMENT - 1) / BUCKETS_PER_SEGMENT);
+        var allocated = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            var segmentBuckets = Math.min(BUCKETS_PER_SEGMENT, buckets - (long) i * BUCKETS_PER_SEGMENT);
+            allocated[i] = ByteBuffer.allocateDirect((int) segmentBuckets * BUCKET_SIZE).order(ByteOrder.nativeOrder());
+        }
+        return allocated;
+    }
+
+    private long bucketOf(FixedWidthKey key) {
+        var hash = HashingUtils.mix(key.word(0) ^ HashingUtils.mix(key.word(1) ^ HashingUtils.mix(key.word(2))));
+        return Long.remainderUnsigned(hash, buckets);
+    }
+
+    private Object lockOf(long bucket) {
+        return locks[(int) (bucket % locks.length)];
+    }
+
+    /**
+     * Key represented by three 64-bit words, stored off-heap as it is.
+     */
+    public interface FixedWidthKey {
+
+        /**
+         * Key word of the specified position.
+         *
+         * @param index word position, from 0 to 2
+         * @return key word
+         */
+        long word(int index);
+
+    }
+
+}
@@ -0,0 +1,306 @@
+package com.bootstrap.feature.management.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent loads of the same missing key into a single load shared by every waiter. The first caller
+ * missing the key becomes the leader and runs the loader, callers missing the same key meanwhile wait for the
+ * leader's result instead of loading it again. Loaded value is placed into the cache before the load is unregistered,
+ * so late callers either join the load or find the value cached.
+ * <br/>
+ * Failed or empty loads are not cached, every waiter observes the same failure and the next caller loads again. Load
+ * outcomes and times are recorded into the cache {@linkplain CacheStatistics}.
+ * <br/>
+ * Cached entries due to refresh are reloaded ahead of their expiry on {@linkplain Cache#CACHE_HANDLE_SCHEDULER} once
+ * they are looked up, batch lookups included, current value keeps being served meanwhile and is kept if reload fails.
+ *
+ * @param <K> key type parameter
+ * @param <V> value type parameter
+ */
+final class SingleFlight<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final Cache<K, V> cache;
+
+    private final CacheStatistics statistics;
+
+    private final Predicate<? super K> refreshDue;
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+    SingleFlight(Cache<K, V> cache) {
+        this(cache, key -> false);
+    }
+
+    /**
+     * Creates coordinator reloading cached entries ahead of their expiry.
+     *
+     * @param cache      cache loaded values are placed into
+     * @param refreshDue checks whether cached entry of the specified key is due to refresh
+     */
+    SingleFlight(Cache<K, V> cache, Predicate<? super K> refreshDue) {
+        this.cache = cache;
+        this.statistics = cache.statistics();
+        this.refreshDue = refreshDue;
+    }
+
+    /**
+     * Non-blocking variation. Load is subscribed independently of the leader's subscription, so cancelling any
+     * waiter, the leader included, neither cancels the load nor affects other waiters.
+     *
+     * @param key    cache entry key
+     * @param loader publisher of the value to load
+     * @return publisher of the cached or loaded value, empty if loader completes empty
+     */
+    Mono<V> get(K key, Function<? super K, ? extends Mono<? extends V>> loader) {
+        Assert.notNull(key, "Source parameter should be represented as non null value.");
+
+        return Mono.defer(() -> {
+            var value = cache.get(key);
+            if (value != null) {
+                if (refreshDue.test(key)) {
+                    refresh(key, loader);
+                }
+                return Mono.just(value);
+            }
+
+            var load = new CompletableFuture<V>();
+            var existing = loads.putIfAbsent(key, load);
+            if (existing != null) {
+                return Mono.fromFuture(existing, true);
+            }
+
+            load(key, load, loading(key, loader));
+            return Mono.fromFuture(load, true);
+        });
+    }
+
+    /**
+     * Batch variation looking the cached keys up at once and loading every missing key by a single loader call. Each
+     * missing key is registered as a load of its own, so single key callers join the batch load and the batch joins
+     * loads already in progress rather than loading those keys again. Cached keys due to refresh are reloaded by a
+     * single loader call of their own.
+     *
+     * @param keys   cache entry keys
+     * @param loader publisher of the values to load
+     * @return publisher of the cached and loaded values, failed if any missing key load fails
+     */
+    Mono<Map<K, V>> getAll(Iterable<? extends K> keys,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends V>>> loader) {
+        Assert.notNull(keys, "Keys parameter should be represented as non null value.");
+
+        return Mono.defer(() -> {
+            var found = cache.getAll(keys);
+            var pending = new LinkedHashMap<K, CompletableFuture<V>>();
+            var owned = new LinkedHashMap<K, CompletableFuture<V>>();
+            var refreshing = new LinkedHashMap<K, CompletableFuture<V>>();
+            for (K key : keys) {
+                Assert.notNull(key, "Source parameter should be represented as non null value.");
+                if (found.containsKey(key)) {
+                    if (!refreshing.containsKey(key) && refreshDue.test(key)) {
+                        var load = new CompletableFuture<V>();
+                        if (loads.putIfAbsent(key, load) == null) {
+                            refreshing.put(key, load);
+                        }
+                    }
+                    continue;
+                }
+                if (pending.containsKey(key)) {
+                    continue;
+                }
+                var load = new CompletableFuture<V>();
+                var existing = loads.putIfAbsent(key, load);
+                if (existing != null) {
+                    pending.put(key, existing);
+                } else {
+                    pending.put(key, load);
+                    owned.put(key, load);
+                }
+            }
+            if (!refreshing.isEmpty()) {
+                refreshAll(refreshing, loader);
+            }
+            if (pending.isEmpty()) {
+                return Mono.just(found);
+            }
+
+            if (!owned.isEmpty()) {
+                loadAll(owned, loadingAll(owned.keySet(), loader));
+            }
+            return Mono.fromFuture(CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new)), true)
+                    .then(Mono.fromSupplier(() -> merge(found, pending)));
+        });
+    }
+
+    /**
+     * Blocking variation running the mapping function on the leader's thread. Mapping function must not load the
+     * same key recursively.
+     *
+     * @param key             cache entry key
+     * @param mappingFunction function computing the value to cache
+     * @return cached or computed value, null if mapping function returns null
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Assert.notNull(key, "Source parameter should be represented as non null value.");
+
+        var value = cache.get(key);
+        if (value != null) {
+            if (refreshDue.test(key)) {
+                refresh(key, it -> Mono.fromSupplier(() -> mappingFunction.apply(it)));
+            }
+            return value;
+        }
+
+        var load = new CompletableFuture<V>();
+        var existing = loads.putIfAbsent(key, load);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        var startTime = System.nanoTime();
+        try {
+            value = mappingFunction.apply(key);
+        } catch (RuntimeException | Error e) {
+            complete(key, load, null, e, startTime);
+            throw e;
+        }
+        complete(key, load, value, null, startTime);
+        return value;
+    }
+
+    private void refresh(K key, Function<? super K, ? extends Mono<? extends V>> loader) {
+        var load = new CompletableFuture<V>();
+        if (loads.putIfAbsent(key, load) == null) {
+            load(key, load, loading(key, loader)
+                    .subscribeOn(Cache.CACHE_HANDLE_SCHEDULER)
+                    .doOnError(e -> LOG.warn("Cache entry refresh is failed, current value is kept. Reason - ", e)));
+        }
+    }
+
+    private void load(K key, CompletableFuture<V> load, Mono<? extends V> loading) {
+        var startTime = System.nanoTime();
+        loading.subscribe(
+                loaded -> complete(key, load, loaded, null, startTime),
+                error -> complete(key, load, null, error, startTime),
+                () -> complete(key, load, null, null, startTime));
+    }
+
+    private void refreshAll(Map<K, CompletableFuture<V>> owned,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends V>>> loader) {
+        loadAll(owned, loadingAll(owned.keySet(), loader)
+                .subscribeOn(Cache.CACHE_HANDLE_SCHEDULER)
+                .doOnError(e -> LOG.warn("Cache entries refresh is failed, current values are kept. Reason - ", e)));
+    }
+
+    private void loadAll(Map<K, CompletableFuture<V>> owned, Mono<? extends Map<? extends K, ? extends V>> loading) {
+        var startTime = System.nanoTime();
+        loading.subscribe(
+                loaded -> completeAll(owned, loaded, null, startTime),
+                error -> completeAll(owned, null, error, startTime),
+                () -> completeAll(owned, Map.of(), null, startTime));
+    }
+
+    private static <K, V> Mono<? extends V> loading(K key, Function<? super K, ? extends Mono<? extends V>> loader) {
+        return Mono.defer(() -> {
+            Mono<? extends V> loading = loader.apply(key);
+            return loading == null ? Mono.<V>empty() : loading;
+        });
+    }
+
+    private static <K, V> Mono<Map<? extends K, ? extends V>> loadingAll(Set<K> keys,
+            Function<? super Set<K>, ? extends Mono<? extends Map<? extends K, ? extends V>>> loader) {
+        return Mono.defer(() -> {
+            Mono<? extends Map<? extends K, ? extends V>> loading = loader.apply(Collections.unmodifiableSet(keys));
+            return loading == null ? Mono.<Map<? extends K, ? extends V>>empty() : loading;
+        });
+    }
+
+    private void complete(K key, CompletableFuture<V> load, V value, Throwable error, long startTime) {
+        if (load.isDone()) {
+            return;
+        }
+        statistics.loaded(value != null, System.nanoTime() - startTime);
+        if (value != null) {
+            cache.put(key, value);
+        }
+        loads.remove(key, load);
+        if (error != null) {
+            load.completeExceptionally(error);
+        } else {
+            load.complete(value);
+        }
+    }
+
+    /**
+     * Places every loaded value into the cache at once before unregistering the loads, as single key completion does.
+     * Batch load is counted as succeeded once it yields a value of any requested key.
+     */
+    private void completeAll(Map<K, CompletableFuture<V>> owned, Map<? extends K, ? extends V> loaded,
+            Throwable error, long startTime) {
+        if (owned.values().iterator().next().isDone()) {
+            return;
+        }
+        var values = new HashMap<K, V>();
+        if (loaded != null) {
+            for (K key : owned.keySet()) {
+                V value = loaded.get(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+        }
+        statistics.loaded(!values.isEmpty(), System.nanoTime() - startTime);
+        if (!values.isEmpty()) {
+            cache.putAll(values);
+        }
+        owned.forEach((key, load) -> {
+            loads.remove(key, load);
+            if (error != null) {
+                load.completeExceptionally(error);
+            } else {
+                load.complete(values.get(key));
+            }
+        });
+    }
+
+    private static <K, V> Map<K, V> merge(Map<K, V> found, Map<K, CompletableFuture<V>> pending) {
+        var merged = new HashMap<>(found);
+        pending.forEach((key, load) -> {
+            var value = load.getNow(null);
+            if (value != null) {
+                merged.put(key, value);
+            }
+        });
+        return Map.copyOf(merged);
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
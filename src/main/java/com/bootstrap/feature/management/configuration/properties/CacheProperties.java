@@ -1,6 +1,7 @@
 package com.bootstrap.feature.management.configuration.properties;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Optional;
 
 import jakarta.validation.constraints.DecimalMax;
@@ -16,7 +17,12 @@ import org.springframework.validation.annotation.Validated;
 import static com.bootstrap.feature.management.configuration.properties.CacheProperties.PROPERTY_SOURCE_NAMESPACE;
 
 @ConfigurationProperties(PROPERTY_SOURCE_NAMESPACE)
-public record CacheProperties(Boolean enabled, InMemoryCacheProperties inMemory) {
+public record CacheProperties(
+        Boolean enabled,
+        CacheType type,
+        InMemoryCacheProperties inMemory,
+        ConcurrentCacheProperties concurrent,
+        ExpiryProperties expiry) {
     /**
      * Cache properties default namespace.
      */
@@ -24,22 +30,66 @@ public record CacheProperties(Boolean enabled, InMemoryCacheProperties inMemory)
 
     public CacheProperties {
         if (enabled == null) enabled = Boolean.TRUE;
+        if (type == null) type = CacheType.IN_MEMORY;
         if (inMemory == null) inMemory = new InMemoryCacheProperties();
+        if (concurrent == null) concurrent = new ConcurrentCacheProperties();
+        if (expiry == null) expiry = new ExpiryProperties();
+    }
+
+    /**
+     * Supported cache implementations.
+     */
+    public enum CacheType {
+
+        /**
+         * Lock guarded access ordered cache of softly referenced values, suitable for low concurrency.
+         */
+        IN_MEMORY,
+
+        /**
+         * Size bounded cache with non-blocking reads and frequency based admission, suitable for high concurrency.
+         */
+        CONCURRENT
+
+    }
+
+    /**
+     * Supported strengths of the references {@linkplain CacheType#IN_MEMORY} cache holds its values by.
+     */
+    public enum ReferenceStrength {
+
+        /**
+         * Values are evicted by size and expiry only.
+         */
+        STRONG,
+
+        /**
+         * Values could be additionally collected under memory pressure, whole cache could vanish upon GC storm.
+         */
+        SOFT,
+
+        /**
+         * Values could be collected as soon as they are not referenced outside of the cache.
+         */
+        WEAK
+
     }
 
     @Validated
     public record InMemoryCacheProperties(
             @Min(8) @Max(128) Integer min,
             @Min(16) @Max(4096) Integer max,
-            @DecimalMin("0.50") @DecimalMax("1.00") @Digits(integer = 1, fraction = 2) @Positive BigDecimal ratio) {
+            @DecimalMin("0.50") @DecimalMax("1.00") @Digits(integer = 1, fraction = 2) @Positive BigDecimal ratio,
+            ReferenceStrength references) {
 
         public InMemoryCacheProperties() {
-            this(64, 2048, null);
+            this(64, 2048, null, null);
         }
 
         public InMemoryCacheProperties {
             if (min == null) min = 64;
-            if (max == null) min = 2048;
+            if (max == null) max = 2048;
+            if (references == null) references = ReferenceStrength.SOFT;
         }
 
         public float getRatio() {
@@ -50,4 +100,41 @@ public record CacheProperties(Boolean enabled, InMemoryCacheProperties inMemory)
 
     }
 
+    /**
+     * Concurrent cache properties holder.
+     *
+     * @param maximumSize maximum number of cached entries
+     */
+    @Validated
+    public record ConcurrentCacheProperties(@Min(16) Integer maximumSize) {
+
+        public ConcurrentCacheProperties() {
+            this(null);
+        }
+
+        public ConcurrentCacheProperties {
+            if (maximumSize == null) maximumSize = 10_000;
+        }
+
+    }
+
+    /**
+     * Cache entries expiry properties holder, applied to every cache type. Entries never expire by default.
+     *
+     * @param expireAfterWrite  time entry expires after it has been created or replaced
+     * @param expireAfterAccess time entry expires after it has been last read or written
+     * @param refreshAfterWrite time after which entry read by a loading lookup is reloaded in background, while the
+     *                          current value keeps being served, expected to be shorter than expiry times
+     */
+    public record ExpiryProperties(
+            Duration expireAfterWrite,
+            Duration expireAfterAccess,
+            Duration refreshAfterWrite) {
+
+        public ExpiryProperties() {
+            this(null, null, null);
+        }
+
+    }
+
 }
@@ -1,10 +1,15 @@
 package com.bootstrap.feature.management.configuration.properties;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import com.bootstrap.feature.management.FeatureLookup;
 
@@ -18,17 +23,176 @@ public record FeatureManagerProperties(
         boolean snapshotEnabled,
         FeatureLookup.FeatureManagerType type,
         @NotBlank
-        String connectionString) {
+        String connectionString,
+        SchedulingProperties scheduling,
+        SnapshotProperties snapshot,
+        BloomFilterProperties bloomFilter,
+        ResultCacheProperties resultCache) {
 
     /**
      * Management properties default namespace.
      */
     public static final String PROPERTY_SOURCE_NAMESPACE = "az-feature-management.configuration";
 
+    public FeatureManagerProperties {
+        if (scheduling == null) scheduling = new SchedulingProperties();
+        if (snapshot == null) snapshot = new SnapshotProperties();
+        if (bloomFilter == null) bloomFilter = new BloomFilterProperties();
+        if (resultCache == null) resultCache = new ResultCacheProperties();
+    }
 
     public FeatureLookup.FeatureManagerType getType() {
         return Optional.ofNullable(type)
                 .orElse(FeatureLookup.FeatureManagerType.UNSPECIFIED);
     }
 
+    /**
+     * Non-blocking feature lookup scheduling properties holder.
+     *
+     * @param mode          scheduling strategy to run lookup operations with
+     * @param parallelism   number of workers backing {@linkplain SchedulingMode#PARALLEL} mode
+     * @param threadCap     maximum number of workers backing {@linkplain SchedulingMode#BOUNDED_ELASTIC} mode
+     * @param queuedTaskCap maximum number of queued tasks backing {@linkplain SchedulingMode#BOUNDED_ELASTIC} mode
+     */
+    public record SchedulingProperties(
+            SchedulingMode mode,
+            @Min(1) Integer parallelism,
+            @Min(1) Integer threadCap,
+            @Min(1) Integer queuedTaskCap) {
+
+        public SchedulingProperties() {
+            this(null, null, null, null);
+        }
+
+        public SchedulingProperties {
+            if (mode == null) mode = SchedulingMode.SINGLE;
+            if (parallelism == null) parallelism = Runtime.getRuntime().availableProcessors();
+            if (threadCap == null) threadCap = 10 * Runtime.getRuntime().availableProcessors();
+            if (queuedTaskCap == null) queuedTaskCap = 100_000;
+        }
+
+    }
+
+    /**
+     * Request scoped feature manager snapshots properties holder.
+     *
+     * @param policy snapshot sharing policy
+     * @param window epoch time window backing {@linkplain SnapshotPolicy#PER_TIME_WINDOW} policy
+     */
+    public record SnapshotProperties(
+            SnapshotPolicy policy,
+            Duration window) {
+
+        public SnapshotProperties() {
+            this(null, null);
+        }
+
+        public SnapshotProperties {
+            if (policy == null) policy = SnapshotPolicy.PER_REQUEST;
+            if (window == null) window = Duration.ofSeconds(1);
+        }
+
+    }
+
+    /**
+     * Targeted users Bloom filter pre-check properties holder.
+     *
+     * @param enabled           whether pre-checks are built for large targeted users lists
+     * @param falsePositiveRate expected false positive rate of a single pre-check
+     * @param minUsers          minimal number of targeted users of an audience to build pre-check for
+     */
+    public record BloomFilterProperties(
+            boolean enabled,
+            @DecimalMin(value = "0", inclusive = false) @DecimalMax(value = "1", inclusive = false)
+            Double falsePositiveRate,
+            @Min(1) Integer minUsers) {
+
+        public BloomFilterProperties() {
+            this(false, null, null);
+        }
+
+        public BloomFilterProperties {
+            if (falsePositiveRate == null) falsePositiveRate = 0.01;
+            if (minUsers == null) minUsers = 10_000;
+        }
+
+    }
+
+    /**
+     * Feature evaluation results cache properties holder.
+     *
+     * @param enabled          whether evaluation results are cached
+     * @param maximumSize      maximum number of cached results held on heap
+     * @param offHeapCapacity  direct memory reserved for results held off-heap, 32 bytes per result, results are held
+     *                         on heap and bounded by {@code maximumSize} unless specified
+     */
+    public record ResultCacheProperties(
+            boolean enabled,
+            @Min(16) Integer maximumSize,
+            DataSize offHeapCapacity) {
+
+        public ResultCacheProperties() {
+            this(false, null, null);
+        }
+
+        public ResultCacheProperties {
+            if (maximumSize == null) maximumSize = 10_000;
+        }
+
+    }
+
+    /**
+     * Supported request scoped feature manager snapshots sharing policies.
+     */
+    public enum SnapshotPolicy {
+
+        /**
+         * Dedicated snapshot per request.
+         */
+        PER_REQUEST,
+
+        /**
+         * Requests arriving until the next configuration refresh share single snapshot.
+         */
+        PER_REFRESH,
+
+        /**
+         * Requests arriving within the same {@code window} share single snapshot.
+         */
+        PER_TIME_WINDOW
+
+    }
+
+    /**
+     * Supported non-blocking feature lookup scheduling strategies.
+     */
+    public enum SchedulingMode {
+
+        /**
+         * Single dedicated worker shared by every lookup operation.
+         */
+        SINGLE,
+
+        /**
+         * No scheduler hop, lookup operation runs on the subscriber thread. Suitable for CPU-only evaluation.
+         */
+        INLINE,
+
+        /**
+         * Fixed size pool of workers sized by {@code parallelism} property.
+         */
+        PARALLEL,
+
+        /**
+         * Bounded elastic pool of workers for providers that may block.
+         */
+        BOUNDED_ELASTIC,
+
+        /**
+         * Virtual thread per task executor. Requires JDK 21, falls back to {@linkplain #BOUNDED_ELASTIC} otherwise.
+         */
+        VIRTUAL_THREADS
+
+    }
+
 }
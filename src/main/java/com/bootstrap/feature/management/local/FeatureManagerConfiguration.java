@@ -2,7 +2,8 @@ package com.bootstrap.feature.management.local;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,6 +26,9 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 
 import com.bootstrap.feature.management.FeatureLookup;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.bootstrap.feature.management.targeting.GroupIndex;
+import com.bootstrap.feature.management.targeting.UserIdIndex;
 
 @Configuration(value = "localConfigFeatureManagerConfiguration", proxyBeanMethods = false)
 @ConditionalOnClass(name = "com.azure.spring.cloud.feature.manager.FeatureManager")
@@ -40,13 +44,21 @@ public class FeatureManagerConfiguration {
 
     private static final String FEATURES_SOURCE_PATH = "${az-feature-management.configuration.features}";
 
+    /**
+     * Features are read straight into the lookup indexes, parsed definitions are not kept as a bean, so targeted users
+     * are held only in their compact form.
+     *
+     * @param script                  features source
+     * @param userIdBloomFilterPolicy targeted users Bloom filter pre-check policy
+     * @return local configuration feature lookup
+     */
     @Bean
-    public FeatureLookup featureLookup(Map<String, Feature> readFeatures) {
-        return new DefaultFeatureLookupImpl(readFeatures);
+    public FeatureLookup featureLookup(@Value(FEATURES_SOURCE_PATH) Resource script,
+            BloomFilterPolicy userIdBloomFilterPolicy) {
+        return new DefaultFeatureLookupImpl(readFeatures(script), userIdBloomFilterPolicy);
     }
 
-    @Bean
-    Map<String, Feature> readFeatures(@Value(FEATURES_SOURCE_PATH) Resource script) {
+    private Map<String, Feature> readFeatures(Resource script) {
         try {
             return new ObjectMapper().readValue(getFileContent(script.getFile().toPath()), new TypeReference<>() {
             });
@@ -69,25 +81,43 @@ public class FeatureManagerConfiguration {
 
     private static class DefaultFeatureLookupImpl implements FeatureLookup {
 
-        private final Map<String, FeatureManagerConfiguration.Feature> features;
-
-        public DefaultFeatureLookupImpl(Map<String, Feature> features) {
-            this.features = features;
+        private final Map<String, IndexedFeature> features;
+
+        private final GroupIndex groupIndex;
+
+        /**
+         * Interns groups of every loaded feature into case-sensitive {@linkplain GroupIndex}, so group membership is
+         * evaluated by bitsets intersection, and keeps targeted users in {@linkplain UserIdIndex}.
+         *
+         * @param features          loaded features keyed by name
+         * @param bloomFilterPolicy targeted users Bloom filter pre-check policy
+         */
+        public DefaultFeatureLookupImpl(Map<String, Feature> features, BloomFilterPolicy bloomFilterPolicy) {
+            var groups = GroupIndex.empty(false).toBuilder();
+            this.features = new HashMap<>();
+            features.forEach((name, feature) -> this.features.put(name, feature == null ? null
+                    : new IndexedFeature(feature.enabled(), UserIdIndex.of(feature.users(), false, bloomFilterPolicy),
+                    groups.addAll(feature.groups()))));
+            this.groupIndex = groups.build();
         }
 
         @Override
         public boolean lookup(FeatureOptions options) {
-            var feature = features.get(options.name());
+            return evaluate(features.get(options.name()), options, null);
+        }
+
+        private boolean evaluate(IndexedFeature feature, FeatureOptions options, GroupIndex.Membership groups) {
             if (feature == null) {
                 return options.defaultValue();
             }
 
-            if (StringUtils.hasText(options.userId()) && !CollectionUtils.isEmpty(feature.users())) {
+            if (StringUtils.hasText(options.userId()) && !feature.users().isEmpty()) {
                 return feature.enabled() && feature.users().contains(options.userId());
             }
 
-            if (!CollectionUtils.isEmpty(options.groups()) && !CollectionUtils.isEmpty(feature.groups())) {
-                return feature.enabled() && !Collections.disjoint(feature.groups(), options.groups());
+            if (!CollectionUtils.isEmpty(options.groups()) && feature.groups().length > 0) {
+                var membership = groups == null ? groupIndex.membership(options.userContext()) : groups;
+                return feature.enabled() && membership.intersects(feature.groups());
             }
 
             return feature.enabled();
@@ -110,6 +140,24 @@ public class FeatureManagerConfiguration {
             return Mono.just(lookup(provider.featureOptionsBuilder(DefaultFeatureOptions::builder).build()));
         }
 
+        @Override
+        public FeatureStates lookupAll(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+            var options = provider.featureOptionsBuilder(DefaultFeatureOptions::builder).build();
+            var groups = groupIndex.membership(options.userContext());
+            return FeatureStates.evaluate(names, name -> evaluate(features.get(name), options, groups));
+        }
+
+        @Override
+        public Mono<FeatureStates> lookupAllAsync(Collection<String> names, FeatureOptionsBuilderProvider provider) {
+            return Mono.just(lookupAll(names, provider));
+        }
+
+    }
+
+    /**
+     * Loaded feature with its users and groups in compact indexed form.
+     */
+    private record IndexedFeature(boolean enabled, UserIdIndex users, long[] groups) {
     }
 
     private record Feature(boolean enabled,
@@ -0,0 +1,129 @@
+package com.bootstrap.feature.management.snapshot;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.bootstrap.feature.management.FeatureUserContext;
+
+/**
+ * Request scoped memo of feature lookup results kept by {@linkplain FeatureSnapshotHandle}. Request evaluates features
+ * against its own pinned snapshot, so result of the same feature for the same user/group context never changes
+ * within the request and repeated lookups cost a single map probe.
+ * <br/>
+ * Results are keyed by feature name and then by precomputed {@linkplain FeatureUserContext#userHash()} and
+ * {@linkplain FeatureUserContext#groupsHash()}, so probing the memo allocates nothing. Memo is bounded, results over
+ * the limit are simply not memoized. Memo is discarded once the handle is released.
+ */
+public final class FeatureLookupMemo {
+
+    /**
+     * Maximum number of results memoized per request.
+     */
+    public static final int MAXIMUM_SIZE = 256;
+
+    private final Map<String, Results> results = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean discarded;
+
+    FeatureLookupMemo() {
+    }
+
+    /**
+     * Resolves memoized lookup result.
+     *
+     * @param feature     feature name
+     * @param userContext user/group evaluation context
+     * @return memoized feature state or null if the feature has not been looked up for the context yet
+     */
+    public Boolean get(String feature, FeatureUserContext userContext) {
+        if (feature == null || userContext == null) {
+            return null;
+        }
+        var memoized = results.get(feature);
+        return memoized == null ? null : memoized.get(userContext.userHash(), userContext.groupsHash());
+    }
+
+    /**
+     * Memoizes successful lookup result.
+     *
+     * @param feature     feature name
+     * @param userContext user/group evaluation context
+     * @param enabled     evaluated feature state
+     */
+    public void put(String feature, FeatureUserContext userContext, boolean enabled) {
+        if (feature == null || userContext == null || discarded || size.get() >= MAXIMUM_SIZE) {
+            return;
+        }
+        var userHash = userContext.userHash();
+        var groupsHash = userContext.groupsHash();
+        results.compute(feature, (name, memoized) -> {
+            if (memoized != null && memoized.get(userHash, groupsHash) != null) {
+                return memoized;
+            }
+            size.incrementAndGet();
+            return memoized == null ? new Results(userHash, groupsHash, enabled)
+                    : memoized.with(userHash, groupsHash, enabled);
+        });
+    }
+
+    /**
+     * Number of memoized results.
+     *
+     * @return memoized results count
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Discards memoized results, lookups completed afterwards are not memoized anymore.
+     */
+    void discard() {
+        discarded = true;
+        results.clear();
+        size.set(0);
+    }
+
+    /**
+     * Immutable results of a single feature, user and groups hashes are interleaved.
+     */
+    private static final class Results {
+
+        private final long[] hashes;
+
+        private final boolean[] states;
+
+        private Results(long userHash, long groupsHash, boolean enabled) {
+            this(new long[] { userHash, groupsHash }, new boolean[] { enabled });
+        }
+
+        private Results(long[] hashes, boolean[] states) {
+            this.hashes = hashes;
+            this.states = states;
+        }
+
+        Boolean get(long userHash, long groupsHash) {
+            for (int i = 0; i < states.length; i++) {
+                if (hashes[i << 1] == userHash && hashes[(i << 1) + 1] == groupsHash) {
+                    return states[i];
+                }
+            }
+            return null;
+        }
+
+        Results with(long userHash, long groupsHash, boolean enabled) {
+            var nextHashes = Arrays.copyOf(hashes, hashes.length + 2);
+            nextHashes[hashes.length] = userHash;
+            nextHashes[hashes.length + 1] = groupsHash;
+            var nextStates = Arrays.copyOf(states, states.length + 1);
+            nextStates[states.length] = enabled;
+            return new Results(nextHashes, nextStates);
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.bootstrap.feature.management.snapshot;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collision-free feature manager snapshot identifiers generator. Every thread reserves blocks of sequential identifiers
+ * from the shared counter, so contention on the counter happens once per block rather than once per request. Node local
+ * epoch is captured upon class initialization and distinguishes identifiers issued by different runtime instances.
+ */
+public final class FeatureManagerSnapshotIdGenerator {
+
+    /**
+     * Snapshot identifier prefix.
+     */
+    public static final String SNAPSHOT_ID_PREFIX = "feature.manager.";
+
+    private static final int BLOCK_SIZE = 1 << 10;
+
+    private static final AtomicLong BLOCKS = new AtomicLong();
+
+    private static final String NODE_EPOCH_PREFIX = SNAPSHOT_ID_PREFIX
+            + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + '.';
+
+    private static final ThreadLocal<IdBlock> ID_BLOCK = ThreadLocal.withInitial(IdBlock::new);
+
+    private FeatureManagerSnapshotIdGenerator() {
+    }
+
+    /**
+     * Generates next unique snapshot identifier.
+     *
+     * @return snapshot identifier
+     */
+    public static String nextId() {
+        return NODE_EPOCH_PREFIX + ID_BLOCK.get().next();
+    }
+
+    private static final class IdBlock {
+
+        private long next;
+
+        private long limit;
+
+        long next() {
+            if (next == limit) {
+                next = BLOCKS.getAndIncrement() * BLOCK_SIZE;
+                limit = next + BLOCK_SIZE;
+            }
+            return next++;
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.bootstrap.feature.management.snapshot;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lightweight concurrent registry of request scoped feature manager snapshots keyed by unique snapshot identifier.
+ * Registration and release do not involve any spring bean factory locks nor metadata bookkeeping.
+ * <br/>
+ * Supplier based registration only keeps cheap placeholder, snapshot itself is materialized upon the first lookup, so
+ * requests never looking up any feature do not pay for the snapshot.
+ * <br/>
+ * Once configured with an epoch supplier, requests registered within the same epoch share single reference counted
+ * snapshot, which is released as soon as the last request using it is unregistered.
+ *
+ * @param <T> feature manager specific type
+ */
+public class FeatureManagerSnapshotRegistry<T> {
+
+    private final Map<String, FeatureSnapshotHandle<T>> snapshots = new ConcurrentHashMap<>();
+
+    private final AtomicReference<SharedSnapshot<T>> current = new AtomicReference<>();
+
+    private final LongSupplier epochSupplier;
+
+    /**
+     * Creates registry handing out dedicated snapshot per request.
+     */
+    public FeatureManagerSnapshotRegistry() {
+        this(null);
+    }
+
+    /**
+     * Creates registry sharing snapshots among requests registered within the same epoch.
+     *
+     * @param epochSupplier current epoch supplier or null to hand out dedicated snapshot per request
+     */
+    public FeatureManagerSnapshotRegistry(LongSupplier epochSupplier) {
+        this.epochSupplier = epochSupplier;
+    }
+
+    /**
+     * Epoch supplier dividing timeline into fixed windows of the specified duration.
+     *
+     * @param window epoch time window
+     * @return epoch supplier
+     */
+    public static LongSupplier timeWindowEpoch(Duration window) {
+        Assert.isTrue(window != null && !window.isNegative() && !window.isZero(),
+                "Snapshot epoch window should be represented as positive duration.");
+        var windowNanos = window.toNanos();
+        return () -> System.nanoTime() / windowNanos;
+    }
+
+    /**
+     * Registers dedicated feature manager snapshot under specified key.
+     *
+     * @param key      snapshot key/alias
+     * @param snapshot feature manager snapshot
+     * @return true if snapshot is registered, false if specified key is already taken
+     */
+    public boolean register(String key, T snapshot) {
+        Assert.notNull(key, "Snapshot key should be represented as non null value.");
+        Assert.notNull(snapshot, "Snapshot should be represented as non null value.");
+
+        return snapshots.putIfAbsent(key, new FeatureSnapshotHandle<>(this, new SharedSnapshot<>(0, snapshot))) == null;
+    }
+
+    /**
+     * Registers lazy feature manager snapshot placeholder under specified key. Upon the first lookup snapshot of the
+     * current epoch is reused if any, otherwise new snapshot is taken from the specified supplier.
+     *
+     * @param key              snapshot key/alias
+     * @param snapshotSupplier feature manager snapshot supplier
+     * @return true if snapshot is registered, false if specified key is already taken
+     */
+    public boolean register(String key, Supplier<? extends T> snapshotSupplier) {
+        Assert.notNull(key, "Snapshot key should be represented as non null value.");
+        Assert.notNull(snapshotSupplier, "Snapshot supplier should be represented as non null value.");
+
+        return register(key, newHandle(snapshotSupplier));
+    }
+
+    /**
+     * Registers specified feature manager snapshot handle under specified key, so the snapshot could be resolved by
+     * key as well.
+     *
+     * @param key    snapshot key/alias
+     * @param handle feature manager snapshot handle issued by this registry
+     * @return true if handle is registered, false if specified key is already taken
+     */
+    public boolean register(String key, FeatureSnapshotHandle<T> handle) {
+        Assert.notNull(key, "Snapshot key should be represented as non null value.");
+        Assert.isTrue(handle != null && handle.registry == this,
+                "Snapshot handle should be issued by the same registry.");
+
+        return snapshots.putIfAbsent(key, handle) == null;
+    }
+
+    /**
+     * Issues lazy feature manager snapshot handle not registered under any key. Handle is expected to be released by
+     * its owner once request is completed.
+     *
+     * @param snapshotSupplier feature manager snapshot supplier
+     * @return feature manager snapshot handle
+     */
+    public FeatureSnapshotHandle<T> newHandle(Supplier<? extends T> snapshotSupplier) {
+        Assert.notNull(snapshotSupplier, "Snapshot supplier should be represented as non null value.");
+
+        return new FeatureSnapshotHandle<>(this, snapshotSupplier);
+    }
+
+    /**
+     * Resolves feature manager snapshot registered under specified key, materializing it upon the first call.
+     *
+     * @param key snapshot key/alias
+     * @return registered snapshot or null if there is no snapshot for specified key
+     */
+    public T get(String key) {
+        var handle = key == null ? null : snapshots.get(key);
+        return handle == null ? null : handle.get();
+    }
+
+    /**
+     * Releases feature manager snapshot registered under specified key.
+     *
+     * @param key snapshot key/alias
+     * @return true if snapshot has been released
+     */
+    public boolean unregister(String key) {
+        var handle = key == null ? null : snapshots.remove(key);
+        if (handle == null) {
+            return false;
+        }
+        handle.release();
+        return true;
+    }
+
+    /**
+     * Number of currently registered snapshots.
+     *
+     * @return registered snapshots count
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    SharedSnapshot<T> acquire(Supplier<? extends T> snapshotSupplier) {
+        if (epochSupplier == null) {
+            T snapshot = snapshotSupplier.get();
+            Assert.notNull(snapshot, "Snapshot should be represented as non null value.");
+
+            return new SharedSnapshot<>(0, snapshot);
+        }
+
+        while (true) {
+            var epoch = epochSupplier.getAsLong();
+            var shared = current.get();
+            if (shared != null && shared.epoch == epoch && shared.retain()) {
+                return shared;
+            }
+
+            T snapshot = snapshotSupplier.get();
+            Assert.notNull(snapshot, "Snapshot should be represented as non null value.");
+
+            var candidate = new SharedSnapshot<T>(epoch, snapshot);
+            if (current.compareAndSet(shared, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    void release(SharedSnapshot<T> shared) {
+        if (shared.release()) {
+            current.compareAndSet(shared, null);
+        }
+    }
+
+    /**
+     * Reference counted snapshot holder. Once released by the last reference it can not be retained anymore.
+     */
+    static final class SharedSnapshot<T> {
+
+        private final long epoch;
+
+        final T snapshot;
+
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        SharedSnapshot(long epoch, T snapshot) {
+            this.epoch = epoch;
+            this.snapshot = snapshot;
+        }
+
+        boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        boolean release() {
+            return references.decrementAndGet() == 0;
+        }
+
+    }
+
+}
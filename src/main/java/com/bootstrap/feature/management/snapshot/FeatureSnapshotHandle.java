@@ -0,0 +1,90 @@
+package com.bootstrap.feature.management.snapshot;
+
+import java.util.function.Supplier;
+
+/**
+ * Request scoped typed handle to the feature manager snapshot. Handle is placed straight into Reactor
+ * {@linkplain reactor.util.context.Context} (keyed by {@linkplain FeatureSnapshotHandle} type) or servlet request
+ * attributes (keyed by {@linkplain FeatureSnapshotHandle} type name), so lookup operations resolve the snapshot with no
+ * registry nor bean factory lookup. Snapshot is materialized upon the first lookup, lookups racing with release never
+ * retain snapshot after the handle has been released.
+ * <br/>
+ * Handle also carries {@linkplain FeatureLookupMemo} of the request lookup results, discarded along with the snapshot.
+ *
+ * @param <T> feature manager specific type
+ */
+public final class FeatureSnapshotHandle<T> {
+
+    final FeatureManagerSnapshotRegistry<T> registry;
+
+    private final Supplier<? extends T> snapshotSupplier;
+
+    private final FeatureLookupMemo memo = new FeatureLookupMemo();
+
+    private volatile FeatureManagerSnapshotRegistry.SharedSnapshot<T> shared;
+
+    private boolean released;
+
+    FeatureSnapshotHandle(FeatureManagerSnapshotRegistry<T> registry, Supplier<? extends T> snapshotSupplier) {
+        this.registry = registry;
+        this.snapshotSupplier = snapshotSupplier;
+    }
+
+    FeatureSnapshotHandle(FeatureManagerSnapshotRegistry<T> registry,
+            FeatureManagerSnapshotRegistry.SharedSnapshot<T> shared) {
+        this.registry = registry;
+        this.snapshotSupplier = null;
+        this.shared = shared;
+    }
+
+    /**
+     * Resolves feature manager snapshot, materializing it upon the first call.
+     *
+     * @return feature manager snapshot or null if handle has been already released
+     */
+    public T get() {
+        var current = shared;
+        if (current == null) {
+            synchronized (this) {
+                if (released) {
+                    return null;
+                }
+                current = shared;
+                if (current == null) {
+                    current = registry.acquire(snapshotSupplier);
+                    shared = current;
+                }
+            }
+        }
+        return current.snapshot;
+    }
+
+    /**
+     * Request scoped memo of lookup results evaluated against the snapshot of this handle.
+     *
+     * @return lookup results memo
+     */
+    public FeatureLookupMemo memo() {
+        return memo;
+    }
+
+    /**
+     * Releases feature manager snapshot held by this handle and discards memoized lookup results. Subsequent releases
+     * are no-op.
+     */
+    public void release() {
+        FeatureManagerSnapshotRegistry.SharedSnapshot<T> current;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            current = shared;
+        }
+        memo.discard();
+        if (current != null) {
+            registry.release(current);
+        }
+    }
+
+}
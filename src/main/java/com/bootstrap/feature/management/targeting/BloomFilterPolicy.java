@@ -0,0 +1,41 @@
+package com.bootstrap.feature.management.targeting;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy of building Bloom filter pre-checks in front of large targeted users lists.
+ *
+ * @param enabled           whether pre-checks are built at all
+ * @param falsePositiveRate expected false positive rate of a single pre-check, within (0, 1) range
+ * @param minUsers          minimal number of targeted users of an audience to build pre-check for
+ * @param statistics        pre-check counters shared by every audience
+ */
+public record BloomFilterPolicy(
+        boolean enabled,
+        double falsePositiveRate,
+        int minUsers,
+        BloomFilterStatistics statistics) {
+
+    /**
+     * Policy building no pre-checks.
+     */
+    public static final BloomFilterPolicy DISABLED = new BloomFilterPolicy(false, 0.01, Integer.MAX_VALUE,
+            new BloomFilterStatistics());
+
+    public BloomFilterPolicy {
+        Assert.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1,
+                "Bloom filter false positive rate should be represented as value within (0, 1) range.");
+        Assert.notNull(statistics, "Bloom filter statistics should be represented as non null value.");
+    }
+
+    /**
+     * Checks whether pre-check should be built for audience of the specified size.
+     *
+     * @param users number of targeted users
+     * @return true if pre-check should be built
+     */
+    boolean appliesTo(int users) {
+        return enabled && users >= minUsers;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.bootstrap.feature.management.targeting;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of targeted users Bloom filter pre-checks shared by every audience of the provider.
+ */
+public final class BloomFilterStatistics {
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder passed = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    void passed(boolean found) {
+        passed.increment();
+        if (!found) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Number of lookups answered as "definitely not targeted", each of them saved an exact probe.
+     *
+     * @return rejected lookups count
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Number of lookups passed through the pre-check to the exact probe.
+     *
+     * @return passed lookups count
+     */
+    public long getPassed() {
+        return passed.sum();
+    }
+
+    /**
+     * Number of passed lookups not confirmed by the exact probe.
+     *
+     * @return false positive lookups count
+     */
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.bootstrap.feature.management.targeting;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.bootstrap.feature.management.FeatureUserContext;
+
+/**
+ * Immutable dictionary of group names known to the loaded configuration, each interned into dense integer id at
+ * refresh time. Audience groups of a feature and groups of a caller are represented as {@code long[]} bitsets over
+ * these ids, so group intersection is a few word ANDs instead of hashing and lower casing strings per evaluation.
+ * <br/>
+ * Ids are stable across versions: next index is built on top of the current one and only appends new group names, so
+ * bitsets compiled against previous version stay valid for features which definition has not been changed. Ids of the
+ * groups no longer in use are retained until they outnumber both the groups in use and {@value #MAXIMUM_RETIRED_IDS},
+ * then the next version is interned from scratch by {@linkplain Builder#compact()}, so under group churn the index
+ * holds at most twice the groups in use plus {@value #MAXIMUM_RETIRED_IDS} ids.
+ */
+public final class GroupIndex {
+
+    /**
+     * Number of retired ids always tolerated before the index is compacted.
+     */
+    public static final int MAXIMUM_RETIRED_IDS = 64;
+
+    private static final long[] NO_BITS = new long[0];
+
+    private static final long UNKNOWN_GROUPS_FINGERPRINT = 0x9E3779B97F4A7C15L;
+
+    private static final long FINGERPRINT_MULTIPLIER = 0xFF51AFD7ED558CCDL;
+
+    private final Map<String, Integer> ids;
+
+    private final boolean ignoreCase;
+
+    private GroupIndex(Map<String, Integer> ids, boolean ignoreCase) {
+        this.ids = ids;
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Creates empty group index.
+     *
+     * @param ignoreCase whether group names are matched case-insensitively
+     * @return empty group index
+     */
+    public static GroupIndex empty(boolean ignoreCase) {
+        return new GroupIndex(Collections.emptyMap(), ignoreCase);
+    }
+
+    /**
+     * Creates builder of the next index version keeping ids of the groups known to this index.
+     *
+     * @return group index builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Number of interned groups.
+     *
+     * @return groups count
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Resolves dense id of the specified group.
+     *
+     * @param group group name
+     * @return group id or -1 if group is unknown to the loaded configuration
+     */
+    public int id(String group) {
+        if (group == null) {
+            return -1;
+        }
+        var id = ids.get(normalize(group));
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Builds bitset of the specified groups, unknown groups are skipped.
+     *
+     * @param groups group names
+     * @return groups bitset
+     */
+    public long[] bits(Collection<String> groups) {
+        if (groups == null || groups.isEmpty()) {
+            return NO_BITS;
+        }
+        var bits = new long[words(ids.size())];
+        for (String group : groups) {
+            set(bits, id(group));
+        }
+        return bits;
+    }
+
+    /**
+     * Resolves group membership of the specified user against this index. Membership is cached by the user context, so
+     * it is resolved once per user and configuration version.
+     *
+     * @param user user/group evaluation context
+     * @return user group membership
+     */
+    public Membership membership(FeatureUserContext user) {
+        return user.groupMembership(this);
+    }
+
+    /**
+     * Resolves group membership of the specified user bypassing user context cache.
+     *
+     * @param user user/group evaluation context
+     * @return user group membership
+     */
+    public Membership resolve(FeatureUserContext user) {
+        var count = user.groupCount();
+        if (count == 0 || ids.isEmpty()) {
+            return new Membership(this, new int[0], NO_BITS, count == 0 ? 0 : UNKNOWN_GROUPS_FINGERPRINT);
+        }
+
+        var groupIds = new int[count];
+        var bits = new long[words(ids.size())];
+        var fingerprint = UNKNOWN_GROUPS_FINGERPRINT;
+        for (int i = 0; i < count; i++) {
+            var id = ids.get(ignoreCase ? user.normalizedGroup(i) : user.group(i));
+            groupIds[i] = id == null ? -1 : id;
+            set(bits, groupIds[i]);
+            if (id != null) {
+                fingerprint = (fingerprint ^ user.groupHash(i)) * FINGERPRINT_MULTIPLIER;
+            }
+        }
+        return new Membership(this, groupIds, bits, fingerprint);
+    }
+
+    /**
+     * Checks whether specified bitsets share any group.
+     *
+     * @param left  groups bitset
+     * @param right groups bitset
+     * @return true if bitsets intersect
+     */
+    public static boolean intersects(long[] left, long[] right) {
+        for (int i = 0, length = Math.min(left.length, right.length); i < length; i++) {
+            if ((left[i] & right[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether specified bitset contains group of specified id.
+     *
+     * @param bits groups bitset
+     * @param id   group id
+     * @return true if group is present
+     */
+    public static boolean contains(long[] bits, int id) {
+        var word = id >>> 6;
+        return id >= 0 && word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+
+    private String normalize(String group) {
+        return ignoreCase ? group.toLowerCase(Locale.ROOT) : group;
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private static void set(long[] bits, int id) {
+        if (id >= 0) {
+            bits[id >>> 6] |= 1L << id;
+        }
+    }
+
+    /**
+     * Groups of a single user resolved against particular index version.
+     *
+     * @param index       index version membership is resolved against
+     * @param ids         group ids indexed the same way as user context groups, -1 for unknown groups
+     * @param bits        user groups bitset
+     * @param fingerprint order sensitive hash of the groups known to the index as they have been specified, groups
+     *                    unknown to the index never affect evaluation, so they are not fingerprinted, zero if user
+     *                    belongs to no group
+     */
+    public record Membership(GroupIndex index, int[] ids, long[] bits, long fingerprint) {
+
+        /**
+         * Checks whether user belongs to any of the specified groups.
+         *
+         * @param groups groups bitset
+         * @return true if user belongs to any group
+         */
+        public boolean intersects(long[] groups) {
+            return GroupIndex.intersects(bits, groups);
+        }
+
+    }
+
+    /**
+     * Builder of the next index version.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> ids;
+
+        private final boolean ignoreCase;
+
+        private final GroupIndex current;
+
+        private final BitSet added = new BitSet();
+
+        private Builder(GroupIndex current) {
+            this.ids = new HashMap<>(current.ids);
+            this.ignoreCase = current.ignoreCase;
+            this.current = current;
+        }
+
+        /**
+         * Interns specified group name.
+         *
+         * @param group group name
+         * @return group id
+         */
+        public int add(String group) {
+            int id = ids.computeIfAbsent(ignoreCase ? group.toLowerCase(Locale.ROOT) : group, it -> ids.size());
+            added.set(id);
+            return id;
+        }
+
+        /**
+         * Interns specified group names.
+         *
+         * @param groups group names
+         * @return groups bitset
+         */
+        public long[] addAll(Collection<String> groups) {
+            if (groups == null || groups.isEmpty()) {
+                return NO_BITS;
+            }
+            var groupIds = groups.stream().filter(it -> it != null).mapToInt(this::add).toArray();
+            var bits = new long[words(Arrays.stream(groupIds).max().orElse(-1) + 1)];
+            for (int id : groupIds) {
+                set(bits, id);
+            }
+            return bits;
+        }
+
+        /**
+         * Checks whether retired ids, which is ids of the groups not added to this builder, outnumber both added ones
+         * and {@value #MAXIMUM_RETIRED_IDS}, so the next version should rather be interned from scratch.
+         *
+         * @return true if the next version should be interned by {@linkplain #compact()} builder
+         */
+        public boolean isSparse() {
+            var inUse = added.cardinality();
+            var retired = ids.size() - inUse;
+            return retired > MAXIMUM_RETIRED_IDS && retired > inUse;
+        }
+
+        /**
+         * Creates builder interning groups from scratch with the same matching rules. Groups are renumbered, so
+         * bitsets compiled against this builder or any previous version are not valid for the built index.
+         *
+         * @return empty group index builder
+         */
+        public Builder compact() {
+            return new Builder(empty(ignoreCase));
+        }
+
+        /**
+         * Builds next index version, the current one is reused when no group has been added.
+         *
+         * @return group index
+         */
+        public GroupIndex build() {
+            return ids.size() == current.ids.size() ? current : new GroupIndex(Map.copyOf(ids), ignoreCase);
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.bootstrap.feature.management.targeting;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Allocation free percentage rollout bucketing yielding exactly the same buckets as {@code TargetingFilter}.
+ * <br/>
+ * {@code TargetingFilter} hashes SHA-256 of {@code userId + "\n" + featureName [+ "\n" + group]} context identifier
+ * and takes absolute value of its first four bytes (big-endian) as the rollout marker. Here the very same identifier
+ * is fed to the digest as precomputed UTF-8 parts - per-user seed {@code userId + "\n"}, per-feature seed
+ * {@code featureName} and optional audience suffix {@code "\n" + group} - so neither the identifier string nor its
+ * bytes are built per call. Digest and hash output buffer are reused per thread.
+ */
+public final class RolloutBucketing {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final ThreadLocal<Bucketer> BUCKETER = ThreadLocal.withInitial(Bucketer::new);
+
+    /**
+     * Checks whether specified context falls into the rollout percentage of the feature default audience.
+     *
+     * @param percentage  rollout percentage within [0, 100] range
+     * @param userSeed    UTF-8 encoded {@code userId + "\n"}
+     * @param featureSeed UTF-8 encoded feature name
+     * @return true if context is targeted
+     */
+    public static boolean isTargeted(double percentage, byte[] userSeed, byte[] featureSeed) {
+        return contextPercentage(userSeed, featureSeed, null) < percentage;
+    }
+
+    /**
+     * Checks whether specified context falls into the rollout percentage of the feature group audience.
+     *
+     * @param percentage     rollout percentage within [0, 100] range
+     * @param userSeed       UTF-8 encoded {@code userId + "\n"}
+     * @param featureSeed    UTF-8 encoded feature name
+     * @param audienceSuffix UTF-8 encoded {@code "\n" + group}
+     * @return true if context is targeted
+     */
+    public static boolean isTargeted(double percentage, byte[] userSeed, byte[] featureSeed, byte[] audienceSuffix) {
+        return contextPercentage(userSeed, featureSeed, audienceSuffix) < percentage;
+    }
+
+    /**
+     * Resolves rollout bucket of the specified context expressed as percentage.
+     *
+     * @param userSeed       UTF-8 encoded {@code userId + "\n"}
+     * @param featureSeed    UTF-8 encoded feature name
+     * @param audienceSuffix UTF-8 encoded {@code "\n" + group} or null for the default audience
+     * @return context percentage
+     */
+    public static double contextPercentage(byte[] userSeed, byte[] featureSeed, byte[] audienceSuffix) {
+        return BUCKETER.get().contextPercentage(userSeed, featureSeed, audienceSuffix);
+    }
+
+    /**
+     * Per thread digest along with its output buffer.
+     */
+    private static final class Bucketer {
+
+        private final MessageDigest digest;
+
+        private final byte[] hash;
+
+        private Bucketer() {
+            try {
+                digest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Unable to find SHA-256 for targeting.", e);
+            }
+            hash = new byte[digest.getDigestLength()];
+        }
+
+        private double contextPercentage(byte[] userSeed, byte[] featureSeed, byte[] audienceSuffix) {
+            digest.update(userSeed);
+            digest.update(featureSeed);
+            if (audienceSuffix != null) {
+                digest.update(audienceSuffix);
+            }
+            try {
+                digest.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                digest.reset();
+                throw new IllegalStateException("Unable to compute targeting context hash.", e);
+            }
+
+            int contextMarker = Math.abs((hash[0] & 0xFF) << 24 | (hash[1] & 0xFF) << 16
+                    | (hash[2] & 0xFF) << 8 | (hash[3] & 0xFF));
+            return (contextMarker / (double) Integer.MAX_VALUE) * 100;
+        }
+
+    }
+
+    private RolloutBucketing() {
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.bootstrap.feature.management.targeting;
+
+import com.bootstrap.feature.management.util.HashingUtils;
+
+/**
+ * Immutable Bloom filter over targeted user identifiers answering "definitely not targeted" before the exact probe.
+ * Bit positions are derived by double hashing of a single 64-bit hash, computed without allocation either from
+ * parsed UUID halves or straight from identifier characters.
+ */
+final class UserIdBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+
+    private final long size;
+
+    private final int hashes;
+
+    private UserIdBloomFilter(long[] bits, int hashes) {
+        this.bits = bits;
+        this.size = (long) bits.length * Long.SIZE;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Creates empty filter sized for the expected number of users and false positive rate.
+     *
+     * @param users             expected number of users
+     * @param falsePositiveRate expected false positive rate
+     * @return empty filter
+     */
+    static UserIdBloomFilter create(int users, double falsePositiveRate) {
+        var n = Math.max(users, 1);
+        var m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        var words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) >>> 6));
+        var k = (int) Math.max(1, Math.round((double) words * Long.SIZE / n * LN2));
+        return new UserIdBloomFilter(new long[words], k);
+    }
+
+    void add(long hash) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            var position = index(h1, h2, i);
+            bits[(int) (position >>> 6)] |= 1L << position;
+        }
+    }
+
+    boolean mightContain(long hash) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            var position = index(h1, h2, i);
+            if ((bits[(int) (position >>> 6)] & (1L << position)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int h1, int h2, int i) {
+        return ((h1 + (long) i * h2) & Long.MAX_VALUE) % size;
+    }
+
+    static long hash(long msb, long lsb) {
+        return HashingUtils.mix(msb * 0x9E3779B97F4A7C15L ^ HashingUtils.mix(lsb));
+    }
+
+    static long hash(String value) {
+        return HashingUtils.hash(value);
+    }
+
+}
@@ -0,0 +1,257 @@
+package com.bootstrap.feature.management.targeting;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Compact immutable index of explicitly targeted user identifiers. Identifiers in canonical lower case UUID form are
+ * stored as sorted {@code long} pairs (16 bytes per user instead of 100+ bytes taken by {@code String} within a
+ * {@code HashSet}) and looked up by binary search, the rest falls back to the set of strings.
+ * <br/>
+ * Membership check parses candidate identifier in place, so it does not allocate. Large lists could be fronted by
+ * {@linkplain UserIdBloomFilter} answering "definitely not targeted" before the exact probe, as per
+ * {@linkplain BloomFilterPolicy}.
+ */
+public final class UserIdIndex {
+
+    private static final UserIdIndex EMPTY = new UserIdIndex(new long[0], Collections.emptySet(), null, null);
+
+    private static final int UUID_LENGTH = 36;
+
+    private final long[] uuids;
+
+    private final Set<String> others;
+
+    private final UserIdBloomFilter bloomFilter;
+
+    private final BloomFilterStatistics statistics;
+
+    private UserIdIndex(long[] uuids, Set<String> others, UserIdBloomFilter bloomFilter,
+            BloomFilterStatistics statistics) {
+        this.uuids = uuids;
+        this.others = others;
+        this.bloomFilter = bloomFilter;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Builds index of the specified user identifiers.
+     *
+     * @param users      user identifiers
+     * @param ignoreCase whether identifiers are matched case-insensitively, lower cased identifiers are expected to be
+     *                   looked up then
+     * @return user identifiers index
+     */
+    public static UserIdIndex of(Collection<?> users, boolean ignoreCase) {
+        return of(users, ignoreCase, BloomFilterPolicy.DISABLED);
+    }
+
+    /**
+     * Builds index of the specified user identifiers fronted by Bloom filter pre-check if policy applies.
+     *
+     * @param users             user identifiers
+     * @param ignoreCase        whether identifiers are matched case-insensitively, lower cased identifiers are
+     *                          expected to be looked up then
+     * @param bloomFilterPolicy Bloom filter pre-check policy
+     * @return user identifiers index
+     */
+    public static UserIdIndex of(Collection<?> users, boolean ignoreCase, BloomFilterPolicy bloomFilterPolicy) {
+        if (users == null || users.isEmpty()) {
+            return EMPTY;
+        }
+
+        var pairs = new long[users.size() * 2];
+        var count = 0;
+        Set<String> others = new HashSet<>();
+        for (Object user : users) {
+            if (user == null) {
+                continue;
+            }
+            var userId = ignoreCase ? user.toString().toLowerCase(Locale.ROOT) : user.toString();
+            if (isUuid(userId)) {
+                pairs[count++] = parseHex(userId, 0, 8) << 32 | parseHex(userId, 9, 13) << 16 | parseHex(userId, 14, 18);
+                pairs[count++] = parseHex(userId, 19, 23) << 48 | parseHex(userId, 24, 36);
+            } else {
+                others.add(userId);
+            }
+        }
+
+        var uuids = sortDistinct(pairs, count / 2);
+        var size = uuids.length / 2 + others.size();
+        if (!bloomFilterPolicy.appliesTo(size)) {
+            return new UserIdIndex(uuids, Set.copyOf(others), null, null);
+        }
+
+        var bloomFilter = UserIdBloomFilter.create(size, bloomFilterPolicy.falsePositiveRate());
+        for (int i = 0; i < uuids.length; i += 2) {
+            bloomFilter.add(UserIdBloomFilter.hash(uuids[i], uuids[i + 1]));
+        }
+        for (String other : others) {
+            bloomFilter.add(UserIdBloomFilter.hash(other));
+        }
+        return new UserIdIndex(uuids, Set.copyOf(others), bloomFilter, bloomFilterPolicy.statistics());
+    }
+
+    /**
+     * Checks whether specified user identifier is targeted.
+     *
+     * @param userId user identifier, expected to be lower cased if index ignores case
+     * @return true if user is targeted
+     */
+    public boolean contains(String userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (isUuid(userId)) {
+            if (uuids.length == 0) {
+                return false;
+            }
+            var msb = parseHex(userId, 0, 8) << 32 | parseHex(userId, 9, 13) << 16 | parseHex(userId, 14, 18);
+            var lsb = parseHex(userId, 19, 23) << 48 | parseHex(userId, 24, 36);
+            if (isRejected(UserIdBloomFilter.hash(msb, lsb))) {
+                return false;
+            }
+            return probed(indexOf(msb, lsb) >= 0);
+        }
+        if (others.isEmpty() || isRejected(UserIdBloomFilter.hash(userId))) {
+            return false;
+        }
+        return probed(others.contains(userId));
+    }
+
+    /**
+     * Checks whether Bloom filter pre-check is built for this index.
+     *
+     * @return true if lookups are pre-checked
+     */
+    public boolean isPreChecked() {
+        return bloomFilter != null;
+    }
+
+    /**
+     * Number of indexed user identifiers.
+     *
+     * @return user identifiers count
+     */
+    public int size() {
+        return uuids.length / 2 + others.size();
+    }
+
+    /**
+     * Checks whether there is no targeted user.
+     *
+     * @return true if index is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserIdIndex that)) return false;
+        return Arrays.equals(uuids, that.uuids) && others.equals(that.others);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(uuids) + others.hashCode();
+    }
+
+    private boolean isRejected(long hash) {
+        if (bloomFilter == null || bloomFilter.mightContain(hash)) {
+            return false;
+        }
+        statistics.rejected();
+        return true;
+    }
+
+    private boolean probed(boolean found) {
+        if (bloomFilter != null) {
+            statistics.passed(found);
+        }
+        return found;
+    }
+
+    private int indexOf(long msb, long lsb) {
+        int low = 0;
+        int high = uuids.length / 2 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compared = compare(uuids[middle * 2], uuids[middle * 2 + 1], msb, lsb);
+            if (compared < 0) {
+                low = middle + 1;
+            } else if (compared > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(long leftMsb, long leftLsb, long rightMsb, long rightLsb) {
+        int compared = Long.compare(leftMsb, rightMsb);
+        return compared != 0 ? compared : Long.compare(leftLsb, rightLsb);
+    }
+
+    /**
+     * Sorts pairs by insertion, dropping duplicates. Indexes are built once per configuration refresh, so simplicity
+     * is preferred over the boxing-free quick sort of pairs.
+     */
+    private static long[] sortDistinct(long[] pairs, int count) {
+        var order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) ->
+                compare(pairs[left * 2], pairs[left * 2 + 1], pairs[right * 2], pairs[right * 2 + 1]));
+
+        var sorted = new long[count * 2];
+        var size = 0;
+        for (int i = 0; i < count; i++) {
+            var msb = pairs[order[i] * 2];
+            var lsb = pairs[order[i] * 2 + 1];
+            if (size == 0 || sorted[size - 2] != msb || sorted[size - 1] != lsb) {
+                sorted[size++] = msb;
+                sorted[size++] = lsb;
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    /**
+     * Checks canonical {@code 8-4-4-4-12} lower case hexadecimal form. Upper case form is not treated as UUID, so case
+     * sensitive indexes keep distinguishing identifiers differing by case.
+     */
+    private static boolean isUuid(String value) {
+        if (value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            var c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            var c = value.charAt(i);
+            result = result << 4 | (c <= '9' ? c - '0' : c - 'a' + 10);
+        }
+        return result;
+    }
+
+}
@@ -1,9 +1,7 @@
 package com.bootstrap.feature.management.util;
 
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -12,6 +10,7 @@ import reactor.util.context.ContextView;
 
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.FeatureLookup.FeatureManagementEnvironmentType;
+import com.bootstrap.feature.management.FeatureUserContext;
 
 /**
  * Feature proxy utils class.
@@ -44,7 +43,7 @@ public final class FeatureProxyUtils {
      */
     public static FeatureLookup.FeatureOptionsBuilderProvider asyncFeatureOptions(String featureName, String id,
             boolean defaultValue, Set<String> groups, ContextView context) {
-        return featureOptions(FeatureManagementEnvironmentType.WEB_REACTIVE, context::stream,
+        return featureOptions(FeatureManagementEnvironmentType.WEB_REACTIVE, context,
                 featureName, id, defaultValue, groups);
     }
 
@@ -71,19 +70,59 @@ public final class FeatureProxyUtils {
      */
     public static FeatureLookup.FeatureOptionsBuilderProvider featureOptions(String featureName, String userId,
             boolean defaultValue, Set<String> groups) {
-        return featureOptions(FeatureManagementEnvironmentType.WEB_SERVLET_BLOCKING,
-                Stream::empty, featureName, userId, defaultValue, groups);
+        return featureOptions(FeatureManagementEnvironmentType.WEB_SERVLET_BLOCKING, null,
+                featureName, userId, defaultValue, groups);
+    }
+
+    /**
+     * Create async builder options for lookup operation sharing prebuilt user/group evaluation context.
+     *
+     * @param featureName toggle feature name
+     * @param userContext user/group evaluation context
+     * @param defaultValue default value
+     * @param context context
+     * @return {@code FeatureLookup.FeatureOptionsBuilderProvider}
+     */
+    public static FeatureLookup.FeatureOptionsBuilderProvider asyncFeatureOptions(String featureName,
+            FeatureUserContext userContext, boolean defaultValue, ContextView context) {
+        var type = FeatureManagementEnvironmentType.WEB_REACTIVE;
+        return builder -> builder
+                .featureLookupKey(type.getFeatureLookupKey(context))
+                .snapshotHandle(type.getSnapshotHandle(context))
+                .name(featureName)
+                .userContext(userContext)
+                .defaultValue(defaultValue);
+    }
+
+    /**
+     * Create builder options for lookup operation sharing prebuilt user/group evaluation context.
+     *
+     * @param featureName toggle feature name
+     * @param userContext user/group evaluation context
+     * @param defaultValue default value
+     * @return {@code FeatureLookup.FeatureOptionsBuilderProvider}
+     */
+    public static FeatureLookup.FeatureOptionsBuilderProvider featureOptions(String featureName,
+            FeatureUserContext userContext, boolean defaultValue) {
+        var type = FeatureManagementEnvironmentType.WEB_SERVLET_BLOCKING;
+        return builder -> builder
+                .featureLookupKey(type.getFeatureLookupKey((ContextView) null))
+                .snapshotHandle(type.getSnapshotHandle((ContextView) null))
+                .name(featureName)
+                .userContext(userContext)
+                .defaultValue(defaultValue);
     }
 
     private static FeatureLookup.FeatureOptionsBuilderProvider featureOptions(
             FeatureManagementEnvironmentType type,
-            Supplier<Stream<Map.Entry<Object, Object>>> entries,
+            ContextView context,
             String featureName,
             String userId,
             boolean defaultValue,
             Set<String> groups) {
         return builder -> builder
-                .featureLookupKey(type.getFeatureLookupKey(entries))
+                .featureLookupKey(type.getFeatureLookupKey(context))
+                .snapshotHandle(type.getSnapshotHandle(context))
                 .name(featureName)
                 .userId(userId)
                 .defaultValue(defaultValue)
@@ -0,0 +1,38 @@
+package com.bootstrap.feature.management.util;
+
+/**
+ * Non-cryptographic 64-bit hashing shared by off-heap cache buckets, targeted users Bloom filters and user context
+ * memo keys.
+ */
+public final class HashingUtils {
+
+    /**
+     * Stafford variant 13 of the 64-bit finalizer spreading every input bit over the whole hash.
+     *
+     * @param value value to spread
+     * @return mixed value
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * FNV-1a hash of the specified characters spread by {@linkplain #mix(long)}.
+     *
+     * @param value characters to hash
+     * @return 64-bit hash
+     */
+    public static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private HashingUtils() {
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.feature.management;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.cache.CacheStatistics;
+
+/**
+ * Exposes {@linkplain Cache} statistics, size based evictions are exposed apart from expired and collected entries to
+ * size the cache by.
+ */
+public class CacheMeterBinder implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "feature.cache";
+
+    private final Cache<?, ?> cache;
+
+    public CacheMeterBinder(Cache<?, ?> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var statistics = cache.statistics();
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", statistics, CacheStatistics::getHits)
+                .description("Number of lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", statistics, CacheStatistics::getMisses)
+                .description("Number of lookups not served from the cache")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", statistics, CacheStatistics::getHitRatio)
+                .description("Ratio of lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", statistics, CacheStatistics::getEvictions)
+                .description("Number of entries evicted to keep the cache within its capacity")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".expirations", statistics, CacheStatistics::getExpirations)
+                .description("Number of entries dropped once expired")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".collections", statistics, CacheStatistics::getCollections)
+                .description("Number of entries dropped once their values have been collected by GC")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".loads", statistics, CacheStatistics::getLoadSuccesses)
+                .tag("result", "success")
+                .description("Number of loads completed with a value")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".loads", statistics, CacheStatistics::getLoadFailures)
+                .tag("result", "failure")
+                .description("Number of loads failed or completed empty")
+                .register(registry);
+        FunctionTimer.builder(METRIC_PREFIX + ".load.duration", statistics,
+                        it -> it.getLoadSuccesses() + it.getLoadFailures(), CacheStatistics::getTotalLoadTime,
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent loading values")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", cache, CacheMeterBinder::size)
+                .description("Number of cached entries")
+                .register(registry);
+    }
+
+    private static double size(Cache<?, ?> cache) {
+        if (cache instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return Double.NaN;
+    }
+
+}
@@ -8,11 +8,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.web.server.WebFilter;
 
 import com.bootstrap.feature.management.appconfig.CustomFeatureManager;
 import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
 import com.feature.management.appconfig.FeatureLookupWebFilter;
 
 /**
@@ -29,10 +29,12 @@ class FeatureLookupWebFilterAutoConfiguration {
     @ConditionalOnClass(name = "com.azure.spring.cloud.feature.manager.FeatureManager")
     @ConditionalOnProperty(prefix = FeatureManagerProperties.PROPERTY_SOURCE_NAMESPACE, name = "type",
             havingValue = "APP_CONFIGURATION")
-    public WebFilter featureLookupWebFilter(GenericApplicationContext context,
-                                            WebEndpointProperties webEndpointProperties,
-                                            Supplier<CustomFeatureManager> customFeatureManagerSnapshotSupplier) {
-        return new FeatureLookupWebFilter(context, webEndpointProperties, customFeatureManagerSnapshotSupplier);
+    public WebFilter featureLookupWebFilter(
+            FeatureManagerSnapshotRegistry<CustomFeatureManager> customFeatureManagerSnapshotRegistry,
+            WebEndpointProperties webEndpointProperties,
+            Supplier<CustomFeatureManager> customFeatureManagerSnapshotSupplier) {
+        return new FeatureLookupWebFilter(customFeatureManagerSnapshotRegistry, webEndpointProperties,
+                customFeatureManagerSnapshotSupplier);
     }
 
 }
@@ -0,0 +1,67 @@
+package com.feature.management;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bootstrap.feature.management.appconfig.FeatureLookupScheduler;
+import com.bootstrap.feature.management.appconfig.FeatureResultCache;
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.feature.management.appconfig.FeatureLookupSchedulerMeterBinder;
+import com.feature.management.appconfig.FeatureResultCacheMeterBinder;
+
+/**
+ * Feature management metrics autoconfiguration. Applies once micrometer is presented on the classpath.
+ */
+@AutoConfiguration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+@ConditionalOnProperty(prefix = FeatureManagerProperties.PROPERTY_SOURCE_NAMESPACE, name = "enabled",
+        havingValue = "true")
+class FeatureManagerMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(BloomFilterPolicy.class)
+    @ConditionalOnProperty(prefix = FeatureManagerProperties.PROPERTY_SOURCE_NAMESPACE, name = "bloom-filter.enabled",
+            havingValue = "true")
+    public UserIdBloomFilterMeterBinder userIdBloomFilterMeterBinder(BloomFilterPolicy userIdBloomFilterPolicy) {
+        return new UserIdBloomFilterMeterBinder(userIdBloomFilterPolicy.statistics());
+    }
+
+    @Bean
+    @ConditionalOnBean(Cache.class)
+    @ConditionalOnProperty(prefix = CacheProperties.PROPERTY_SOURCE_NAMESPACE, name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public CacheMeterBinder cacheMeterBinder(Cache<?, ?> cache) {
+        return new CacheMeterBinder(cache);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.azure.spring.cloud.feature.manager.FeatureManager")
+    @ConditionalOnProperty(prefix = FeatureManagerProperties.PROPERTY_SOURCE_NAMESPACE, name = "type",
+            havingValue = "APP_CONFIGURATION")
+    static class AppConfigFeatureManagerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnBean(FeatureLookupScheduler.class)
+        public FeatureLookupSchedulerMeterBinder featureLookupSchedulerMeterBinder(
+                FeatureLookupScheduler featureLookupScheduler) {
+            return new FeatureLookupSchedulerMeterBinder(featureLookupScheduler);
+        }
+
+        @Bean
+        @ConditionalOnBean(FeatureResultCache.class)
+        @ConditionalOnProperty(prefix = FeatureManagerProperties.PROPERTY_SOURCE_NAMESPACE,
+                name = "result-cache.enabled", havingValue = "true")
+        public FeatureResultCacheMeterBinder featureResultCacheMeterBinder(FeatureResultCache featureResultCache) {
+            return new FeatureResultCacheMeterBinder(featureResultCache);
+        }
+
+    }
+
+}
@@ -9,9 +9,13 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.util.StringUtils;
 
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotIdGenerator;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
+
 /**
- * Simple feature manager snapshot registration management contract to adhere/extend. By default leverages spring
- * context runtime bean registration option.
+ * Simple feature manager snapshot registration management contract to adhere/extend. By default leverages
+ * {@linkplain FeatureManagerSnapshotRegistry} lightweight concurrent snapshots registry.
  *
  * @param <T> feature manager specific type
  * @param <C> feature manager registration context specific type
@@ -20,7 +24,10 @@ public interface FeatureManagerRegistrationCallback<T, C> {
 
     /**
      * Feature manager context key/alias.
+     *
+     * @deprecated hash code based keys collide under load, use {@linkplain #nextFeatureManagerKey()} instead.
      */
+    @Deprecated(forRemoval = false)
     String FEATURE_MANAGER_KEY_TEMPLATE = "feature.manager.%d";
 
     /**
@@ -61,16 +68,87 @@ public interface FeatureManagerRegistrationCallback<T, C> {
      *
      * @param postfix context identifier
      * @return Feature manager context key/alias
+     * @deprecated hash code based keys collide under load, use {@linkplain #nextFeatureManagerKey()} instead.
      */
+    @Deprecated(forRemoval = false)
     static String getFeatureManagerKey(int postfix) {
         return String.format(FEATURE_MANAGER_KEY_TEMPLATE, postfix);
     }
 
+    /**
+     * Generate unique Feature manager context key/alias.
+     *
+     * @return Feature manager context key/alias
+     */
+    static String nextFeatureManagerKey() {
+        return FeatureManagerSnapshotIdGenerator.nextId();
+    }
+
+    /**
+     * {@linkplain FeatureManagerSnapshotRegistry} aware feature manager registration callback variation.
+     *
+     * @param <T> feature manager specific type.
+     */
+    interface SnapshotRegistryAwareFeatureManagerRegistrationCallback<T>
+            extends FeatureManagerRegistrationCallback<T, FeatureManagerSnapshotRegistry<T>> {
+
+        /**
+         * FeatureManagerCallback.
+         *
+         * @return supplier
+         */
+        Supplier<T> getFeatureManagerCallback();
+
+        @Override
+        default void registerFeatureManager(String featureManagerKey) {
+            registerFeatureManager(featureManagerKey, getContext().newHandle(getFeatureManagerCallback()));
+        }
+
+        /**
+         * Register Feature manager snapshot handle issued upfront, so it could be resolved by its key as well.
+         *
+         * @param featureManagerKey Feature manager context key/alias
+         * @param snapshotHandle    Feature manager snapshot handle
+         * @return true if snapshot handle has been registered
+         */
+        default boolean registerFeatureManager(String featureManagerKey, FeatureSnapshotHandle<T> snapshotHandle) {
+            if (StringUtils.hasText(featureManagerKey)) {
+                try {
+                    if (getContext().register(featureManagerKey, snapshotHandle)) {
+                        return true;
+                    }
+                } catch (Exception e) {
+                    // falls back to the default feature manager below
+                }
+                onErrorRegisterCallbackHook(featureManagerKey);
+            }
+            return false;
+        }
+
+        @Override
+        default void unregisterFeatureManager(String featureManagerKey) {
+            getContext().unregister(featureManagerKey);
+        }
+
+        /**
+         * No-op default callback variant.
+         *
+         * @param featureManagerKey Feature manager context key/alias
+         */
+        default void onErrorRegisterCallbackHook(String featureManagerKey) {
+            useDefaultFeatureManagerCallback();
+        }
+
+    }
+
     /**
      * Spring context aware feature manager registration callback variation.
      *
      * @param <T> feature manager specific type.
+     * @deprecated runtime bean registration takes bean factory global locks per request, use
+     * {@linkplain SnapshotRegistryAwareFeatureManagerRegistrationCallback} instead.
      */
+    @Deprecated(forRemoval = false)
     interface ApplicationContextAwareFeatureManagerRegistrationCallback<T>
             extends FeatureManagerRegistrationCallback<T, GenericApplicationContext> {
 
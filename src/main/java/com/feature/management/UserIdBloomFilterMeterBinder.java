@@ -0,0 +1,36 @@
+package com.feature.management;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.bootstrap.feature.management.targeting.BloomFilterStatistics;
+
+/**
+ * Exposes targeted users Bloom filter pre-check statistics, rejected lookups stand for saved exact probes.
+ */
+public class UserIdBloomFilterMeterBinder implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "feature.targeting.users.bloom";
+
+    private final BloomFilterStatistics statistics;
+
+    public UserIdBloomFilterMeterBinder(BloomFilterStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".rejected", statistics, BloomFilterStatistics::getRejected)
+                .description("Number of targeted user lookups rejected by the pre-check with no exact probe")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".passed", statistics, BloomFilterStatistics::getPassed)
+                .description("Number of targeted user lookups passed by the pre-check to the exact probe")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".false.positives", statistics,
+                        BloomFilterStatistics::getFalsePositives)
+                .description("Number of passed targeted user lookups not confirmed by the exact probe")
+                .register(registry);
+    }
+
+}
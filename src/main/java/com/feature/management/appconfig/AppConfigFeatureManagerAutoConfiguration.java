@@ -31,6 +31,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.appconfig.CustomFeatureManager;
 import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
 
 /**
  * App Configuration feature manager snapshot registration management autoconfiguration.
@@ -104,9 +105,11 @@ public class AppConfigFeatureManagerAutoConfiguration {
         @ConditionalOnProperty(prefix = FeatureManagerProperties.PROPERTY_SOURCE_NAMESPACE, name = "type",
                 havingValue = "APP_CONFIGURATION")
         public Map<FeatureLookup.FeatureManagerType, Function<GenericApplicationContext, HandlerInterceptor>> interceptorsBindingMap(
+                FeatureManagerSnapshotRegistry<CustomFeatureManager> customFeatureManagerSnapshotRegistry,
                 Supplier<CustomFeatureManager> customFeatureManagerSnapshotSupplier) {
             return Map.of(FeatureLookup.FeatureManagerType.APP_CONFIGURATION,
-                    ctx -> new FeatureManagerHandlerInterceptor(ctx, customFeatureManagerSnapshotSupplier));
+                    ctx -> new FeatureManagerHandlerInterceptor(customFeatureManagerSnapshotRegistry,
+                            customFeatureManagerSnapshotSupplier));
         }
 
     }
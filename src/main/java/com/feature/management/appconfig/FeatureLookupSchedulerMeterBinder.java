@@ -0,0 +1,50 @@
+package com.feature.management.appconfig;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.bootstrap.feature.management.appconfig.FeatureLookupScheduler;
+
+/**
+ * Exposes {@linkplain FeatureLookupScheduler} statistics tagged by its scheduling mode.
+ */
+public class FeatureLookupSchedulerMeterBinder implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "feature.lookup.scheduler";
+
+    private final FeatureLookupScheduler scheduler;
+
+    public FeatureLookupSchedulerMeterBinder(FeatureLookupScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var tags = Tags.of("mode", scheduler.getMode().name());
+
+        FunctionCounter.builder(METRIC_PREFIX + ".submitted", scheduler, FeatureLookupScheduler::getSubmitted)
+                .tags(tags)
+                .description("Number of lookup operations submitted to the scheduler")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".completed", scheduler, FeatureLookupScheduler::getCompleted)
+                .tags(tags)
+                .description("Number of lookup operations completed by the scheduler")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", scheduler, FeatureLookupScheduler::getActive)
+                .tags(tags)
+                .description("Number of lookup operations currently running on the scheduler")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".queue.wait", scheduler,
+                        it -> it.getQueueWaitNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                .tags(tags)
+                .baseUnit("seconds")
+                .description("Total time lookup operations spent waiting for the scheduler worker")
+                .register(registry);
+    }
+
+}
@@ -6,8 +6,6 @@ import java.util.function.Supplier;
 
 import org.reactivestreams.Subscription;
 import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.Ordered;
 import org.springframework.http.server.RequestPath;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -25,23 +23,25 @@ import reactor.util.context.Context;
 import com.feature.management.FeatureManagerRegistrationCallback;
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.appconfig.CustomFeatureManager;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
 
 /**
- * A {@link WebFilter} that manages lifecycle of synthetic {@linkplain CustomFeatureManager} bean definition instances.
+ * A {@link WebFilter} that manages lifecycle of request scoped {@linkplain CustomFeatureManager} snapshot instances.
  */
 
 public class FeatureLookupWebFilter implements WebFilter, Ordered {
 
     private static final int FILTER_COMPONENT_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
 
-    private GenericApplicationContext context;
+    private FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry;
 
     private WebEndpointProperties webEndpointProperties;
 
     private Supplier<CustomFeatureManager> customFeatureManagerSnapshotSupplier;
 
-    public FeatureLookupWebFilter(GenericApplicationContext context, WebEndpointProperties webEndpointProperties, Supplier<CustomFeatureManager> customFeatureManagerSnapshotSupplier) {
-        this.context = context;
+    public FeatureLookupWebFilter(FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry, WebEndpointProperties webEndpointProperties, Supplier<CustomFeatureManager> customFeatureManagerSnapshotSupplier) {
+        this.snapshotRegistry = snapshotRegistry;
         this.webEndpointProperties = webEndpointProperties;
         this.customFeatureManagerSnapshotSupplier = customFeatureManagerSnapshotSupplier;
     }
@@ -50,7 +50,7 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         Mono<Void> source = chain.filter(exchange);
         return isActuatorEndpoint(getRequestPath(exchange)) ? source
-                : new FeatureLookupWebFilter.MonoFeatureLookupWebFilter(source, context,
+                : new FeatureLookupWebFilter.MonoFeatureLookupWebFilter(source, snapshotRegistry,
                 customFeatureManagerSnapshotSupplier);
     }
 
@@ -75,8 +75,8 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
                 .orElseGet(getClass()::getName);
     }
 
-    public GenericApplicationContext getContext() {
-        return context;
+    public FeatureManagerSnapshotRegistry<CustomFeatureManager> getSnapshotRegistry() {
+        return snapshotRegistry;
     }
 
     public WebEndpointProperties getWebEndpointProperties() {
@@ -89,10 +89,10 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
 
 
     private static class MonoFeatureLookupWebFilter extends MonoOperator<Void, Void> implements
-            FeatureManagerRegistrationCallback.ApplicationContextAwareFeatureManagerRegistrationCallback<CustomFeatureManager> {
+            FeatureManagerRegistrationCallback.SnapshotRegistryAwareFeatureManagerRegistrationCallback<CustomFeatureManager> {
 
 
-        private final GenericApplicationContext context;
+        private final FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry;
 
         private final Supplier<CustomFeatureManager> featureManagerCallback;
 
@@ -100,21 +100,28 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
 
         MonoFeatureLookupWebFilter(
                 Mono<? extends Void> source,
-                GenericApplicationContext context,
+                FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry,
                 Supplier<CustomFeatureManager> featureManagerCallback) {
             super(source);
-            this.context = context;
+            this.snapshotRegistry = snapshotRegistry;
             this.featureManagerCallback = featureManagerCallback;
         }
 
         @Override
         public void subscribe(CoreSubscriber<? super Void> subscriber) {
             Context currentContext = subscriber.currentContext();
+            var snapshotHandle = snapshotRegistry.newHandle(featureManagerCallback);
             source.subscribe(
                     new FeatureLookupWebFilter.MonoFeatureLookupWebFilter.FeatureLookupWebFilterSubscriber(subscriber,
                             currentContext,
-                            this::registerFeatureManager,
-                            this::unregisterFeatureManager, this::isUseDefaultFeatureManager));
+                            FeatureManagerRegistrationCallback.nextFeatureManagerKey(),
+                            snapshotHandle,
+                            key -> registerFeatureManager(key, snapshotHandle),
+                            key -> {
+                                unregisterFeatureManager(key);
+                                snapshotHandle.release();
+                            },
+                            this::isUseDefaultFeatureManager));
         }
 
         public boolean isUseDefaultFeatureManager() {
@@ -132,12 +139,8 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
         }
 
         @Override
-        public GenericApplicationContext getContext() {
-            return Optional.ofNullable(context)
-                    .map(ApplicationContext::getParent)
-                    .filter(GenericApplicationContext.class::isInstance)
-                    .map(GenericApplicationContext.class::cast)
-                    .orElse(context);
+        public FeatureManagerSnapshotRegistry<CustomFeatureManager> getContext() {
+            return snapshotRegistry;
         }
 
         @Override
@@ -151,6 +154,8 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
 
             private final Context context;
 
+            private final String featureManagerName;
+
             private final Consumer<String> registerCallback;
 
             private final Consumer<String> unregisterCallback;
@@ -160,6 +165,8 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
             FeatureLookupWebFilterSubscriber(
                     CoreSubscriber<? super Void> actual,
                     Context context,
+                    String featureManagerName,
+                    FeatureSnapshotHandle<?> snapshotHandle,
                     Consumer<String> registerCallback,
                     Consumer<String> unregisterCallback,
                     Supplier<Boolean> useDefaultFeatureManager) {
@@ -167,8 +174,9 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
                 this.registerCallback = registerCallback;
                 this.unregisterCallback = unregisterCallback;
                 this.useDefaultFeatureManager = useDefaultFeatureManager;
-                this.context = context.put(FeatureLookup.class.getName(),
-                        FeatureManagerRegistrationCallback.getFeatureManagerKey(actual.hashCode()));
+                this.featureManagerName = featureManagerName;
+                this.context = context.put(FeatureLookup.class.getName(), featureManagerName)
+                        .put(FeatureSnapshotHandle.class, snapshotHandle);
             }
 
             @Override
@@ -211,11 +219,13 @@ public class FeatureLookupWebFilter implements WebFilter, Ordered {
                         .map(Supplier::get)
                         .orElse(Boolean.FALSE);
 
-                return isDefaultFeatureManager ? context.delete(FeatureLookup.class.getName()) : context;
+                return isDefaultFeatureManager
+                        ? context.delete(FeatureLookup.class.getName()).delete(FeatureSnapshotHandle.class)
+                        : context;
             }
 
             private String getFeatureManagerName() {
-                return currentContext().get(FeatureLookup.class.getName());
+                return featureManagerName;
             }
 
         }
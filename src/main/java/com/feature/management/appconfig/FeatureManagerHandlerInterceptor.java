@@ -8,8 +8,6 @@ import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -20,19 +18,21 @@ import org.springframework.web.servlet.ModelAndView;
 import com.feature.management.FeatureManagerRegistrationCallback;
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.appconfig.CustomFeatureManager;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
 
 /**
  * FeatureManagerHandlerInterceptor for azure app_config.
  */
 
 public class FeatureManagerHandlerInterceptor implements HandlerInterceptor,
-        FeatureManagerRegistrationCallback.ApplicationContextAwareFeatureManagerRegistrationCallback<CustomFeatureManager> {
-    private GenericApplicationContext context;
+        FeatureManagerRegistrationCallback.SnapshotRegistryAwareFeatureManagerRegistrationCallback<CustomFeatureManager> {
+    private FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry;
     private Supplier<CustomFeatureManager> featureManagerCallback;
 
-    public FeatureManagerHandlerInterceptor(GenericApplicationContext context,
+    public FeatureManagerHandlerInterceptor(FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry,
                                             Supplier<CustomFeatureManager> featureManagerCallback) {
-        this.context = context;
+        this.snapshotRegistry = snapshotRegistry;
         this.featureManagerCallback = featureManagerCallback;
 
     }
@@ -43,12 +43,16 @@ public class FeatureManagerHandlerInterceptor implements HandlerInterceptor,
                 && request.getDispatcherType() == DispatcherType.REQUEST
                 && isValidStatus(response)) {
 
-            var featureManagerKey = FeatureManagerRegistrationCallback.getFeatureManagerKey(request.hashCode());
+            var featureManagerKey = FeatureManagerRegistrationCallback.nextFeatureManagerKey();
             var attributes = RequestContextHolder.currentRequestAttributes();
             attributes.setAttribute(FeatureLookup.class.getName(), featureManagerKey,
                     RequestAttributes.SCOPE_REQUEST);
 
-            registerFeatureManager(featureManagerKey);
+            var snapshotHandle = snapshotRegistry.newHandle(featureManagerCallback);
+            if (registerFeatureManager(featureManagerKey, snapshotHandle)) {
+                attributes.setAttribute(FeatureSnapshotHandle.class.getName(), snapshotHandle,
+                        RequestAttributes.SCOPE_REQUEST);
+            }
         }
         return true;
     }
@@ -60,9 +64,7 @@ public class FeatureManagerHandlerInterceptor implements HandlerInterceptor,
                 && request.getDispatcherType() == DispatcherType.REQUEST
                 && isValidStatus(response)) {
 
-            var featureManagerKey = FeatureManagerRegistrationCallback.getFeatureManagerKey(request.hashCode());
-
-            unregisterFeatureManager(featureManagerKey);
+            unregisterFeatureManager(getFeatureManagerKey(request));
         }
     }
 
@@ -70,25 +72,25 @@ public class FeatureManagerHandlerInterceptor implements HandlerInterceptor,
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
                                 Exception e) {
         if (handler instanceof HandlerMethod && request.getDispatcherType() == DispatcherType.REQUEST) {
-            var featureManagerKey = FeatureManagerRegistrationCallback.getFeatureManagerKey(request.hashCode());
-
-            unregisterFeatureManager(featureManagerKey);
+            unregisterFeatureManager(getFeatureManagerKey(request));
         }
     }
 
+    private static String getFeatureManagerKey(HttpServletRequest request) {
+        return request.getAttribute(FeatureLookup.class.getName()) instanceof String featureManagerKey
+                ? featureManagerKey : null;
+    }
+
     @Override
-    public GenericApplicationContext getContext() {
-        return Optional.ofNullable(context)
-                .map(ApplicationContext::getParent)
-                .filter(GenericApplicationContext.class::isInstance)
-                .map(GenericApplicationContext.class::cast)
-                .orElse(context);
+    public FeatureManagerSnapshotRegistry<CustomFeatureManager> getContext() {
+        return snapshotRegistry;
     }
 
     @Override
     public void useDefaultFeatureManagerCallback() {
         var attributes = RequestContextHolder.currentRequestAttributes();
         attributes.removeAttribute(FeatureLookup.class.getName(), RequestAttributes.SCOPE_REQUEST);
+        attributes.removeAttribute(FeatureSnapshotHandle.class.getName(), RequestAttributes.SCOPE_REQUEST);
     }
 
     @Override
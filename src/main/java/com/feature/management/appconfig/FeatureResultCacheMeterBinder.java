@@ -0,0 +1,39 @@
+package com.feature.management.appconfig;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.bootstrap.feature.management.appconfig.FeatureResultCache;
+
+/**
+ * Exposes {@linkplain FeatureResultCache} hit/miss statistics along with its hit ratio.
+ */
+public class FeatureResultCacheMeterBinder implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "feature.evaluation.cache";
+
+    private final FeatureResultCache resultCache;
+
+    public FeatureResultCacheMeterBinder(FeatureResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", resultCache, FeatureResultCache::getHits)
+                .description("Number of feature evaluations served from the results cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", resultCache, FeatureResultCache::getMisses)
+                .description("Number of feature evaluations computed and cached")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", resultCache, FeatureResultCache::getHitRatio)
+                .description("Ratio of feature evaluations served from the results cache")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".maximum.size", resultCache, FeatureResultCache::getMaximumSize)
+                .description("Maximum number of cached feature evaluation results")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.feature.management.unit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import reactor.core.publisher.Mono;
+
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("Verifies: Cache expires and refreshes entries as per configured expiry")
+class CacheExpiryTests {
+
+    private static final Duration TTL = Duration.ofMillis(200);
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: entry expires after write regardless of reads")
+    void shouldExpireAfterWrite(CacheProperties.CacheType type) {
+        var cache = cache(type, new CacheProperties.ExpiryProperties(TTL, null, null));
+        cache.put("key", "value");
+
+        assertThat(cache.get("key")).isEqualTo("value");
+        sleep(TTL.dividedBy(2));
+        assertThat(cache.get("key")).isEqualTo("value");
+        sleep(TTL);
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.computeIfAbsent("key", key -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: entry expires once not accessed for configured time")
+    void shouldExpireAfterAccess(CacheProperties.CacheType type) {
+        var cache = cache(type, new CacheProperties.ExpiryProperties(null, TTL, null));
+        cache.put("read", "value");
+        cache.put("idle", "value");
+
+        for (int i = 0; i < 4; i++) {
+            sleep(TTL.dividedBy(2));
+            assertThat(cache.get("read")).isEqualTo("value");
+        }
+        assertThat(cache.get("idle")).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: entry due to refresh is served while it is reloaded in background")
+    void shouldRefreshAheadOfExpiry(CacheProperties.CacheType type) {
+        var cache = cache(type, new CacheProperties.ExpiryProperties(TTL.multipliedBy(10), null, TTL));
+        var loads = new AtomicInteger();
+        Function<String, Mono<String>> loader = key -> Mono.fromSupplier(() -> key + "-" + loads.incrementAndGet());
+
+        assertThat(cache.get("key", loader).block()).isEqualTo("key-1");
+        assertThat(cache.get("key", loader).block()).isEqualTo("key-1");
+        sleep(TTL);
+
+        assertThat(cache.get("key", loader).block()).isEqualTo("key-1");
+        var deadline = System.nanoTime() + TTL.multipliedBy(5).toNanos();
+        while (!"key-2".equals(cache.get("key")) && System.nanoTime() < deadline) {
+            sleep(Duration.ofMillis(10));
+        }
+        assertThat(cache.get("key")).isEqualTo("key-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: entries due to refresh found by batch lookup are reloaded in background by a single call")
+    void shouldRefreshBatchAheadOfExpiry(CacheProperties.CacheType type) {
+        var cache = cache(type, new CacheProperties.ExpiryProperties(TTL.multipliedBy(10), null, TTL));
+        var loads = new AtomicInteger();
+        Function<Set<String>, Mono<Map<String, String>>> loader = keys -> Mono.fromSupplier(() -> {
+            var load = loads.incrementAndGet();
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> key + "-" + load));
+        });
+
+        assertThat(cache.getAll(List.of("first", "second"), loader).block())
+                .containsOnly(entry("first", "first-1"), entry("second", "second-1"));
+        sleep(TTL);
+
+        assertThat(cache.getAll(List.of("first", "second"), loader).block())
+                .containsOnly(entry("first", "first-1"), entry("second", "second-1"));
+        var deadline = System.nanoTime() + TTL.multipliedBy(5).toNanos();
+        while (!"second-2".equals(cache.get("second")) && System.nanoTime() < deadline) {
+            sleep(Duration.ofMillis(10));
+        }
+        assertThat(cache.getAll(List.of("first", "second")))
+                .containsOnly(entry("first", "first-2"), entry("second", "second-2"));
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Cache<String, String> cache(CacheProperties.CacheType type,
+            CacheProperties.ExpiryProperties expiry) {
+        var properties = new CacheProperties(true, type,
+                new CacheProperties.InMemoryCacheProperties(null, null, null,
+                        CacheProperties.ReferenceStrength.STRONG),
+                null, expiry);
+        return new Cache.CacheFactory<String, String>(properties).getObject();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
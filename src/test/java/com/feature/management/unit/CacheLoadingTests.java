@@ -0,0 +1,145 @@
+package com.feature.management.unit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("Verifies: Cache coalesces concurrent misses of the same key into a single load")
+class CacheLoadingTests {
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: concurrent non-blocking misses share single load")
+    void shouldShareAsyncLoad(CacheProperties.CacheType type) {
+        var cache = cache(type);
+        var loads = new AtomicInteger();
+
+        var values = Flux.range(0, 32)
+                .flatMap(i -> cache.get("key", key -> Mono.delay(Duration.ofMillis(100))
+                        .map(tick -> key + "-" + loads.incrementAndGet())))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(values).hasSize(32).containsOnly("key-1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("key")).isEqualTo("key-1");
+        assertThat(cache.get("empty", key -> Mono.empty()).block()).isNull();
+        assertThat(cache.get("empty")).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: concurrent blocking misses wait for the value computed by the first caller")
+    void shouldShareBlockingLoad(CacheProperties.CacheType type) throws Exception {
+        var cache = cache(type);
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var leader = executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                started.countDown();
+                sleep();
+                return key + "-" + loads.incrementAndGet();
+            }));
+            started.await();
+            List<Future<String>> waiters = IntStream.range(0, 16)
+                    .mapToObj(i -> executor.submit(() -> cache.computeIfAbsent("key",
+                            key -> key + "-" + loads.incrementAndGet())))
+                    .toList();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("key-1");
+            for (Future<String> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("key-1");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: failed load is propagated to every waiter and is not cached")
+    void shouldNotCacheFailedLoad(CacheProperties.CacheType type) {
+        var cache = cache(type);
+        var loads = new AtomicInteger();
+
+        var failed = Mono.delay(Duration.ofMillis(50))
+                .then(Mono.<String>error(new IllegalStateException("unavailable")))
+                .doOnSubscribe(subscription -> loads.incrementAndGet());
+        var waiters = Flux.range(0, 8)
+                .flatMap(i -> cache.get("key", key -> failed).onErrorReturn("failed"))
+                .subscribeOn(Schedulers.parallel())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(waiters).hasSize(8).containsOnly("failed");
+        assertThat(loads).hasValue(1);
+        assertThatThrownBy(() -> cache.computeIfAbsent("key", key -> {
+            throw new IllegalStateException("unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.computeIfAbsent("key", key -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get("key", key -> Mono.just("reloaded")).block()).isEqualTo("loaded");
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: batch lookup loads missing keys by a single loader call joining loads in progress")
+    void shouldLoadMissingKeysInBatch(CacheProperties.CacheType type) {
+        var cache = cache(type);
+        var batches = new CopyOnWriteArrayList<Set<String>>();
+        cache.putAll(Map.of("cached", "value"));
+        var joined = cache.get("joined", key -> Mono.delay(Duration.ofMillis(100)).thenReturn("single")).toFuture();
+
+        var values = cache.getAll(List.of("cached", "joined", "first", "second", "absent", "first"), keys -> {
+            batches.add(Set.copyOf(keys));
+            return Mono.just(keys.stream()
+                    .filter(key -> !"absent".equals(key))
+                    .collect(Collectors.toMap(Function.identity(), key -> key + "-batch")));
+        }).block(Duration.ofSeconds(5));
+
+        assertThat(values).containsOnly(entry("cached", "value"), entry("joined", "single"),
+                entry("first", "first-batch"), entry("second", "second-batch"));
+        assertThat(batches).containsExactly(Set.of("first", "second", "absent"));
+        assertThat(joined).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("single");
+        assertThat(cache.getAll(List.of("first", "second", "absent"))).containsOnlyKeys("first", "second");
+    }
+
+    private static Cache<String, String> cache(CacheProperties.CacheType type) {
+        var properties = new CacheProperties(true, type, null, null, null);
+        return new Cache.CacheFactory<String, String>(properties).getObject();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.feature.management.unit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import reactor.core.publisher.Mono;
+
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("Verifies: Cache records lookup, removal and load statistics")
+class CacheStatisticsTests {
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: hits, misses, size based evictions and loads are counted")
+    void shouldCountLookupsEvictionsAndLoads(CacheProperties.CacheType type) {
+        var cache = cache(type, CacheProperties.ReferenceStrength.STRONG);
+        var statistics = cache.statistics();
+
+        IntStream.range(0, 16).forEach(i -> cache.put("key-" + i, "value-" + i));
+        assertThat(cache.get("key-0")).isEqualTo("value-0");
+        assertThat(cache.get("missing")).isNull();
+        assertThat(cache.get("loaded", key -> Mono.just("value")).block()).isEqualTo("value");
+        assertThatIllegalStateException().isThrownBy(() -> cache.computeIfAbsent("failed", key -> {
+            throw new IllegalStateException(key);
+        }));
+
+        assertThat(statistics.getHits()).isEqualTo(1);
+        assertThat(statistics.getMisses()).isEqualTo(3);
+        assertThat(statistics.getHitRatio()).isEqualTo(0.25);
+        assertThat(statistics.getLoadSuccesses()).isEqualTo(1);
+        assertThat(statistics.getLoadFailures()).isEqualTo(1);
+        assertThat(statistics.getTotalLoadTime()).isPositive();
+
+        IntStream.range(16, 64).forEach(i -> cache.put("key-" + i, "value-" + i));
+        assertThat(statistics.getEvictions()).isPositive();
+        assertThat(statistics.getCollections()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheProperties.CacheType.class)
+    @DisplayName("Verifies: batch load is counted as failed once it yields none of requested keys")
+    void shouldCountEmptyBatchLoadAsFailure(CacheProperties.CacheType type) {
+        var cache = cache(type, CacheProperties.ReferenceStrength.STRONG);
+        var statistics = cache.statistics();
+
+        assertThat(cache.getAll(List.of("first", "second"), keys -> Mono.just(Map.of("other", "value"))).block())
+                .isEmpty();
+        assertThat(cache.getAll(List.of("first", "second"), keys -> Mono.just(Map.of("first", "value"))).block())
+                .containsOnlyKeys("first");
+
+        assertThat(statistics.getLoadFailures()).isEqualTo(1);
+        assertThat(statistics.getLoadSuccesses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verifies: entries dropped once collected are counted apart from evictions")
+    void shouldCountCollectedEntries() throws InterruptedException {
+        var cache = cache(CacheProperties.CacheType.IN_MEMORY, CacheProperties.ReferenceStrength.WEAK);
+        var statistics = cache.statistics();
+        IntStream.range(0, 8).forEach(i -> cache.put("key-" + i, new String("value-" + i)));
+
+        var deadline = System.nanoTime() + 5_000_000_000L;
+        while (statistics.getCollections() == 0 && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+            cache.get("missing");
+        }
+
+        assertThat(statistics.getCollections()).isPositive();
+        assertThat(statistics.getEvictions()).isZero();
+    }
+
+    private static Cache<String, String> cache(CacheProperties.CacheType type,
+            CacheProperties.ReferenceStrength references) {
+        var properties = new CacheProperties(true, type,
+                new CacheProperties.InMemoryCacheProperties(8, 16, null, references),
+                new CacheProperties.ConcurrentCacheProperties(16), null);
+        return new Cache.CacheFactory<String, String>(properties).getObject();
+    }
+
+}
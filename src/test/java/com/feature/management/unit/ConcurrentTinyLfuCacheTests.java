@@ -0,0 +1,97 @@
+package com.feature.management.unit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.cache.Cache;
+import com.bootstrap.feature.management.cache.ConcurrentTinyLfuCache;
+import com.bootstrap.feature.management.configuration.properties.CacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: ConcurrentTinyLfuCache keeps frequently used entries within its capacity")
+class ConcurrentTinyLfuCacheTests {
+
+    @Test
+    @DisplayName("Verifies: frequently used entries survive scan of one-off entries")
+    void shouldKeepFrequentEntriesOnScan() {
+        var cache = new ConcurrentTinyLfuCache<Integer, String>(100);
+        IntStream.range(0, 50).forEach(i -> cache.put(i, "hot-" + i));
+        IntStream.range(0, 20).forEach(round -> IntStream.range(0, 50).forEach(cache::get));
+
+        IntStream.range(1_000, 11_000).forEach(i -> cache.put(i, "cold-" + i));
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(IntStream.range(0, 50).filter(i -> cache.get(i) != null).count()).isGreaterThanOrEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Verifies: concurrent reads and writes keep cache bounded and consistent")
+    void shouldStayBoundedUnderConcurrency() {
+        var cache = new ConcurrentTinyLfuCache<Integer, Integer>(256);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8).mapToObj(worker -> CompletableFuture.runAsync(() -> {
+                var random = ThreadLocalRandom.current();
+                for (int i = 0; i < 100_000; i++) {
+                    var key = random.nextInt(2_048);
+                    var value = cache.get(key);
+                    assertThat(value == null || value == key).isTrue();
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else if (i % 64 == 0) {
+                        cache.remove(key);
+                    }
+                }
+            }, executor)).toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(256);
+        cache.clear();
+        assertThat(cache).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verifies: values replaced concurrently with eviction are either kept or evicted but never stale")
+    void shouldNotLoseUpdatesUnderEviction() {
+        var cache = new ConcurrentTinyLfuCache<Integer, Integer>(64);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8).mapToObj(worker -> CompletableFuture.runAsync(() -> {
+                var random = ThreadLocalRandom.current();
+                for (int round = 1; round <= 20_000; round++) {
+                    var key = worker * 8 + round % 8;
+                    var previous = cache.put(key, round);
+                    assertThat(previous == null || previous == round - 8).isTrue();
+                    cache.put(1_000 + random.nextInt(4_096), 0);
+                }
+                for (int key = worker * 8; key < worker * 8 + 8; key++) {
+                    cache.put(key, -1);
+                }
+            }, executor)).toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var updated = IntStream.range(0, 64).filter(key -> cache.get(key) != null).boxed().toList();
+        assertThat(updated).allSatisfy(key -> assertThat(cache.get(key)).isEqualTo(-1));
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("Verifies: cache implementation is selected by cache properties type")
+    void shouldCreateConfiguredCache() throws Exception {
+        var properties = new CacheProperties(true, CacheProperties.CacheType.CONCURRENT, null, null, null);
+
+        assertThat(new Cache.CacheFactory<String, String>(properties).getObject())
+                .isInstanceOf(ConcurrentTinyLfuCache.class);
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.feature.management.unit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.azure.spring.cloud.feature.manager.FeatureManagementConfigProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.FeatureLookup;
+import com.bootstrap.feature.management.FeatureUserContext;
+import com.bootstrap.feature.management.appconfig.CustomFeatureManager;
+import com.bootstrap.feature.management.appconfig.FeatureResultCache;
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: CustomFeatureManager evaluates features compiled from refreshed configuration")
+class CustomFeatureManagerTests {
+
+    private FeatureResultCache resultCache;
+
+    private CustomFeatureManager customFeatureManager;
+
+    @BeforeEach
+    void init() {
+        resultCache = new FeatureResultCache(1_000);
+        customFeatureManager = new CustomFeatureManager(new FeatureManagementConfigProperties(),
+                BloomFilterPolicy.DISABLED, resultCache);
+        customFeatureManager.putAll(Map.of(
+                "targeted_feature", targetingFeature(Map.of(
+                        "Users", Map.of("0", "Test_User"),
+                        "Groups", Map.of("0", Map.of("Name", "Beta", "RolloutPercentage", "100")),
+                        "DefaultRolloutPercentage", "0")),
+                "rolled_out_feature", targetingFeature(Map.of("DefaultRolloutPercentage", "100"))));
+    }
+
+    @Test
+    @DisplayName("Verifies: targeted user is enabled regardless of its case")
+    void shouldEnableTargetedUser() {
+        assertThat(isEnabled("targeted_feature", "test_user", Set.of())).isTrue();
+        assertThat(isEnabled("targeted_feature", "another_user", Set.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verifies: targeted group rollout is applied")
+    void shouldEnableTargetedGroup() {
+        assertThat(isEnabled("targeted_feature", "another_user", Set.of("beta"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verifies: default rollout percentage is applied and unknown features are disabled")
+    void shouldApplyDefaultRollout() {
+        assertThat(isEnabled("rolled_out_feature", "any_user", Set.of())).isTrue();
+        assertThat(isEnabled("unknown_feature", "any_user", Set.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verifies: snapshot keeps evaluating configuration it was created from")
+    void shouldKeepSnapshotConfiguration() {
+        var snapshot = CustomFeatureManager.create(new FeatureManagementConfigProperties(), customFeatureManager);
+
+        customFeatureManager.putAll(Map.of("rolled_out_feature", targetingFeature(Map.of(
+                "DefaultRolloutPercentage", "0"))));
+
+        assertThat(snapshot.isEnabledAsync(options("rolled_out_feature", "any_user", Set.of())).block()).isTrue();
+        assertThat(isEnabled("rolled_out_feature", "any_user", Set.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verifies: refresh publishes next configuration version while snapshot keeps pinned one")
+    void shouldPublishNextVersionOnRefresh() {
+        var version = customFeatureManager.getVersion();
+        var snapshot = CustomFeatureManager.create(new FeatureManagementConfigProperties(), customFeatureManager);
+
+        customFeatureManager.putAll(Map.of("rolled_out_feature", targetingFeature(Map.of(
+                "DefaultRolloutPercentage", "100"))));
+
+        assertThat(customFeatureManager.getVersion()).isEqualTo(version + 1);
+        assertThat(snapshot.getVersion()).isEqualTo(version);
+        assertThat(snapshot.getFeatureManager()).isSameAs(customFeatureManager.getFeatureManager());
+    }
+
+    @Test
+    @DisplayName("Verifies: bulk evaluation evaluates every requested feature against the same user context")
+    void shouldEvaluateAllRequestedFeatures() {
+        var states = customFeatureManager.isEnabledAll(
+                List.of("targeted_feature", "rolled_out_feature", "unknown_feature", "targeted_feature"),
+                options(null, "test_user", Set.of()));
+
+        assertThat(states.names()).containsExactly("targeted_feature", "rolled_out_feature", "unknown_feature");
+        assertThat(states.isEnabled("targeted_feature")).isTrue();
+        assertThat(states.isEnabled("rolled_out_feature")).isTrue();
+        assertThat(states.isEnabled("unknown_feature")).isFalse();
+        assertThat(states.contains("not_requested_feature")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verifies: shared user context is reused across lookups and matches groups case-insensitively")
+    void shouldEvaluateSharedUserContext() {
+        var userContext = FeatureUserContext.of("another_user", List.of("BETA"));
+        var states = customFeatureManager.isEnabledAll(List.of("targeted_feature", "rolled_out_feature"),
+                FeatureLookup.DefaultFeatureOptions.builder().userContext(userContext).build());
+
+        assertThat(states.isEnabled("targeted_feature")).isTrue();
+        assertThat(states.isEnabled("rolled_out_feature")).isTrue();
+        assertThat(userContext.normalizedGroups()).containsExactly("beta");
+        assertThat(FeatureUserContext.of(null, null).isTargetable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verifies: result is cached per user and groups known to the configuration")
+    void shouldCacheResultPerUserAndGroups() {
+        assertThat(isEnabled("targeted_feature", "user", Set.of("beta", "unknown"))).isTrue();
+        assertThat(isEnabled("targeted_feature", "user", Set.of("beta"))).isTrue();
+        assertThat(isEnabled("targeted_feature", "user", Set.of())).isFalse();
+        assertThat(isEnabled("targeted_feature", "another_user", Set.of("beta"))).isTrue();
+
+        assertThat(resultCache.getHits()).isEqualTo(1);
+        assertThat(resultCache.getMisses()).isEqualTo(3);
+
+        var states = customFeatureManager.isEnabledAll(List.of("targeted_feature", "rolled_out_feature"),
+                options(null, "another_user", Set.of("beta")));
+
+        assertThat(states.isEnabled("targeted_feature")).isTrue();
+        assertThat(states.isEnabled("rolled_out_feature")).isTrue();
+        assertThat(resultCache.getHits()).isEqualTo(2);
+        assertThat(resultCache.getHitRatio()).isEqualTo(2 / 6d);
+    }
+
+    @Test
+    @DisplayName("Verifies: refresh invalidates cached results of changed features only")
+    void shouldInvalidateChangedFeaturesOnRefresh() {
+        var snapshot = CustomFeatureManager.create(new FeatureManagementConfigProperties(), customFeatureManager);
+        assertThat(isEnabled("targeted_feature", "user", Set.of("beta"))).isTrue();
+        assertThat(isEnabled("rolled_out_feature", "user", Set.of())).isTrue();
+
+        customFeatureManager.putAll(Map.of("rolled_out_feature", targetingFeature(Map.of(
+                "DefaultRolloutPercentage", "0"))));
+
+        assertThat(isEnabled("targeted_feature", "user", Set.of("beta"))).isTrue();
+        assertThat(isEnabled("rolled_out_feature", "user", Set.of())).isFalse();
+        assertThat(resultCache.getHits()).isEqualTo(1);
+
+        assertThat(snapshot.isEnabled(options("rolled_out_feature", "user", Set.of()))).isTrue();
+        assertThat(resultCache.getHits()).isEqualTo(2);
+    }
+
+    private boolean isEnabled(String name, String userId, Set<String> groups) {
+        return Boolean.TRUE.equals(customFeatureManager.isEnabledAsync(options(name, userId, groups)).block());
+    }
+
+    private static FeatureLookup.FeatureOptions options(String name, String userId, Set<String> groups) {
+        return FeatureLookup.DefaultFeatureOptions.builder()
+                .name(name)
+                .userId(userId)
+                .groups(groups)
+                .build();
+    }
+
+    private static Map<String, Object> targetingFeature(Map<String, Object> audience) {
+        return Map.of("enabled-for", Map.of("0", Map.of(
+                "name", "Microsoft.Targeting",
+                "parameters", Map.of("Audience", audience))));
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.feature.management.unit;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -8,6 +11,7 @@ import reactor.core.publisher.Mono;
 import com.bootstrap.feature.management.FeatureLookup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 @DisplayName("Verifies: DefaultFeatureLookup implementation returns false to each method call")
 class DefaultFeatureLookupTests {
@@ -48,4 +52,41 @@ class DefaultFeatureLookupTests {
         lookupResult.subscribe(result -> assertThat(result).isFalse());
     }
 
+    @Test
+    void testLookupAllShouldReturnFalseForEachRequestedFeature() {
+        FeatureLookup.FeatureStates lookupResult = featureLookup.lookupAll(List.of("first", "second"),
+                featureOptionsBuilderProvider);
+
+        assertThat(lookupResult.asMap()).containsExactly(entry("first", false), entry("second", false));
+    }
+
+    @Test
+    void testLookupAllAsyncShouldKeepFeaturesAlignedWhenLookupCompletesEmpty() {
+        var lookup = new FeatureLookup() {
+
+            @Override
+            public boolean lookup(FeatureLookup.FeatureOptions options) {
+                return false;
+            }
+
+            @Override
+            public boolean lookup(FeatureLookup.FeatureOptionsBuilderProvider provider) {
+                return false;
+            }
+
+            @Override
+            public Mono<Boolean> lookupAsync(FeatureLookup.FeatureOptionsBuilderProvider provider) {
+                var name = provider.apply(FeatureLookup.DefaultFeatureOptions.builder()).build().name();
+                return "second".equals(name) ? Mono.empty() : Mono.just(Boolean.TRUE);
+            }
+
+        };
+
+        var lookupResult = lookup.lookupAllAsync(List.of("first", "second", "third"), builder -> builder)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(lookupResult.asMap())
+                .containsExactly(entry("first", true), entry("second", false), entry("third", true));
+    }
+
 }
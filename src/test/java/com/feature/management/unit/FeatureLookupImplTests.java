@@ -1,21 +1,35 @@
 package com.feature.management.unit;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import com.azure.spring.cloud.feature.manager.entities.FeatureFilterEvaluationContext;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationContext;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import com.bootstrap.feature.management.FeatureLookup;
 import com.bootstrap.feature.management.appconfig.CustomFeatureManager;
 import com.bootstrap.feature.management.appconfig.FeatureLookupImpl;
+import com.bootstrap.feature.management.appconfig.FeatureLookupScheduler;
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+import com.bootstrap.feature.management.snapshot.FeatureSnapshotHandle;
+import com.bootstrap.feature.management.util.FeatureProxyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class FeatureLookupImplTests {
@@ -26,7 +40,11 @@ class FeatureLookupImplTests {
 
     private static final FeatureLookup.FeatureOptions featureOptions = mock(FeatureLookup.FeatureOptions.class);
 
-    private final FeatureLookup featureLookup = new FeatureLookupImpl(null, applicationContext, true);
+    private static final FeatureManagerSnapshotRegistry<CustomFeatureManager> snapshotRegistry =
+            new FeatureManagerSnapshotRegistry<>();
+
+    private final FeatureLookup featureLookup = new FeatureLookupImpl(null, applicationContext, true,
+            FeatureLookupScheduler.create(new FeatureManagerProperties.SchedulingProperties()), snapshotRegistry);
 
     @BeforeAll
     static void init() {
@@ -36,15 +54,13 @@ class FeatureLookupImplTests {
         when(featureOptions.userId()).thenReturn("userId");
         when(featureOptions.defaultValue()).thenReturn(false);
 
-        when(applicationContext.containsBeanDefinition("featureLookupKey")).thenReturn(true);
-        when(applicationContext.getBean("featureLookupKey", CustomFeatureManager.class)).thenReturn(
-                customFeatureManager);
+        snapshotRegistry.register("featureLookupKey", customFeatureManager);
     }
 
     @Test
-    @DisplayName("Verifies: featureLookup method returns true if customFeatureManager#isEnabledAsync returns true")
-    void shouldReturnTrueWhenIsEnabledAsyncTrue() {
-        when(customFeatureManager.isEnabledAsync(anyString())).thenReturn(Mono.just(true));
+    @DisplayName("Verifies: featureLookup method returns true if customFeatureManager#isEnabled returns true")
+    void shouldReturnTrueWhenIsEnabledTrue() {
+        when(customFeatureManager.isEnabled(any(FeatureLookup.FeatureOptions.class))).thenReturn(true);
 
         boolean lookupResult = featureLookup.lookup(featureOptions);
 
@@ -52,9 +68,9 @@ class FeatureLookupImplTests {
     }
 
     @Test
-    @DisplayName("Verifies: featureLookup method returns true if customFeatureManager#isEnabledAsync returns true")
-    void shouldReturnFalseWhenIsEnabledAsyncFalse() {
-        when(customFeatureManager.isEnabledAsync(anyString())).thenReturn(Mono.just(false));
+    @DisplayName("Verifies: featureLookup method returns false if customFeatureManager#isEnabled returns false")
+    void shouldReturnFalseWhenIsEnabledFalse() {
+        when(customFeatureManager.isEnabled(any(FeatureLookup.FeatureOptions.class))).thenReturn(false);
 
         boolean lookupResult = featureLookup.lookup(featureOptions);
 
@@ -62,13 +78,112 @@ class FeatureLookupImplTests {
     }
 
     @Test
-    @DisplayName("Verifies: featureLookup method throws exception if customFeatureManager#isEnabledAsync fails and throws exception")
-    void shouldThrowExceptionWhenIsEnabledAsyncThrows() {
-        when(customFeatureManager.isEnabledAsync(anyString()))
-                .thenThrow(new RuntimeException("Failed to determine if feature is enabled async."));
+    @DisplayName("Verifies: featureLookup method throws exception if customFeatureManager#isEnabled fails and throws exception")
+    void shouldThrowExceptionWhenIsEnabledThrows() {
+        when(customFeatureManager.isEnabled(any(FeatureLookup.FeatureOptions.class)))
+                .thenThrow(new RuntimeException("Failed to determine if feature is enabled."));
 
         assertThatExceptionOfType(RuntimeException.class)
                 .isThrownBy(() -> featureLookup.lookup(featureOptions));
     }
 
+    @Test
+    @DisplayName("Verifies: featureLookupAsync method returns true if customFeatureManager#isEnabledAsync returns true")
+    void shouldReturnTrueWhenIsEnabledAsyncTrue() {
+        when(customFeatureManager.isEnabledAsync(any(FeatureLookup.FeatureOptions.class))).thenReturn(Mono.just(true));
+
+        Boolean lookupResult = featureLookup.lookupAsync(builder -> builder
+                        .featureLookupKey("featureLookupKey")
+                        .name("featureName")
+                        .userId("userId"))
+                .block();
+
+        assertThat(lookupResult).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verifies: featureLookupAsync method resolves snapshot from the handle placed into Reactor Context")
+    void shouldResolveSnapshotHandleFromContext() {
+        when(customFeatureManager.isEnabledAsync(any(FeatureLookup.FeatureOptions.class))).thenReturn(Mono.just(true));
+        var snapshotHandle = snapshotRegistry.newHandle(() -> customFeatureManager);
+
+        Boolean lookupResult = featureLookup.lookupAsync(FeatureProxyUtils.asyncFeatureOptions("featureName",
+                        "userId", Context.of(FeatureSnapshotHandle.class, snapshotHandle)))
+                .block();
+
+        assertThat(lookupResult).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verifies: repeated lookups within the request are served by the snapshot handle memo")
+    void shouldMemoizeLookupsWithinRequest() {
+        var featureManager = mock(CustomFeatureManager.class);
+        when(featureManager.isEnabled(any(FeatureLookup.FeatureOptions.class))).thenReturn(true);
+        when(featureManager.isEnabledAsync(any(FeatureLookup.FeatureOptions.class))).thenReturn(Mono.just(false));
+        var snapshotHandle = snapshotRegistry.newHandle(() -> featureManager);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(featureLookup.lookup(builder -> builder.name("featureName").userId("userId")
+                    .snapshotHandle(snapshotHandle))).isTrue();
+            assertThat(featureLookup.lookupAsync(builder -> builder.name("featureName").userId("userId")
+                    .snapshotHandle(snapshotHandle)).block()).isTrue();
+        }
+        assertThat(featureLookup.lookupAsync(builder -> builder.name("featureName").userId("otherUserId")
+                .snapshotHandle(snapshotHandle)).block()).isFalse();
+
+        verify(featureManager, times(1)).isEnabled(any(FeatureLookup.FeatureOptions.class));
+        verify(featureManager, times(1)).isEnabledAsync(any(FeatureLookup.FeatureOptions.class));
+        assertThat(snapshotHandle.memo().size()).isEqualTo(2);
+
+        snapshotHandle.release();
+        assertThat(snapshotHandle.memo().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verifies: feature context restored from its string representation evaluates filters chain")
+    @SuppressWarnings("unchecked")
+    void shouldEvaluateFiltersChainOfRestoredContext() {
+        when(customFeatureManager.isEnabled(any(FeatureLookup.FeatureOptions.class))).thenReturn(true);
+        var builders = new ArrayList<FeatureLookup.FeatureOptionsBuilder<?>>();
+        featureLookup.lookup(builder -> {
+            builders.add(builder);
+            return builder.featureLookupKey("featureLookupKey").name("featureName").userId("Test_User");
+        });
+        var builder = builders.get(0);
+
+        var context = (FeatureLookup.FeatureEvaluationContext<FeatureFilterEvaluationContext>)
+                builder.fromString(builder.stringify());
+
+        assertThat(context.name()).isEqualTo("featureName");
+        assertThat(context.evaluate(List.of(targeting(Map.of("Users", List.of("test_user")))))).isTrue();
+        assertThat(context.evaluate(List.of(targeting(Map.of("Users", List.of("another_user")))))).isFalse();
+        assertThat(context.evaluate(List.of(new FeatureFilterEvaluationContext(),
+                targeting(Map.of("DefaultRolloutPercentage", 100))))).isTrue();
+        assertThat(context.evaluate(List.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verifies: results of the shared manager fallen back to are not memoized by the snapshot handle")
+    void shouldNotMemoizeFallbackLookups() {
+        when(customFeatureManager.isEnabled(any(FeatureLookup.FeatureOptions.class))).thenReturn(true);
+        when(customFeatureManager.isEnabledAsync(any(FeatureLookup.FeatureOptions.class))).thenReturn(Mono.just(true));
+        var snapshotHandle = snapshotRegistry.newHandle(() -> {
+            throw new IllegalStateException("Snapshot is unavailable");
+        });
+
+        assertThat(featureLookup.lookup(builder -> builder.featureLookupKey("featureLookupKey").name("featureName")
+                .userId("userId").snapshotHandle(snapshotHandle))).isTrue();
+        assertThat(featureLookup.lookupAsync(builder -> builder.featureLookupKey("featureLookupKey")
+                .name("featureName").userId("userId").snapshotHandle(snapshotHandle)).block()).isTrue();
+
+        assertThat(snapshotHandle.memo().size()).isZero();
+    }
+
+    private static FeatureFilterEvaluationContext targeting(Map<String, Object> audience) {
+        var context = new FeatureFilterEvaluationContext();
+        context.setName("Microsoft.Targeting");
+        context.setParameters(new LinkedHashMap<>(Map.of("Audience", audience)));
+        return context;
+    }
+
 }
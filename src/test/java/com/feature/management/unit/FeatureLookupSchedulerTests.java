@@ -0,0 +1,132 @@
+package com.feature.management.unit;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import com.bootstrap.feature.management.appconfig.FeatureLookupImpl;
+import com.bootstrap.feature.management.appconfig.FeatureLookupScheduler;
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties.SchedulingMode;
+import com.bootstrap.feature.management.configuration.properties.FeatureManagerProperties.SchedulingProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Verifies: FeatureLookupScheduler runs lookups as per scheduling mode and keeps track of them")
+class FeatureLookupSchedulerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("Verifies: INLINE mode runs lookup on the subscriber thread")
+    void shouldRunInlineOnCallerThread() {
+        var scheduler = create(SchedulingMode.INLINE);
+
+        var thread = scheduler.schedule(Mono.fromSupplier(Thread::currentThread)).block(TIMEOUT);
+
+        assertThat(scheduler.getMode()).isEqualTo(SchedulingMode.INLINE);
+        assertThat(thread).isSameAs(Thread.currentThread());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SchedulingMode.class, names = { "PARALLEL", "BOUNDED_ELASTIC", "SINGLE" })
+    @DisplayName("Verifies: scheduled modes run lookup on dedicated daemon workers")
+    void shouldRunOnDedicatedWorkers(SchedulingMode mode) {
+        var scheduler = create(mode);
+        try {
+            var thread = scheduler.schedule(Mono.fromSupplier(Thread::currentThread)).block(TIMEOUT);
+
+            assertThat(scheduler.getMode()).isEqualTo(mode);
+            assertThat(thread).isNotSameAs(Thread.currentThread());
+            assertThat(thread.getName()).startsWith(FeatureLookupImpl.class.getName() + "-");
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Verifies: VIRTUAL_THREADS mode runs lookup on virtual threads or falls back to BOUNDED_ELASTIC mode")
+    void shouldRunOnVirtualThreadsWhenSupported() throws Exception {
+        var scheduler = create(SchedulingMode.VIRTUAL_THREADS);
+        try {
+            var thread = scheduler.schedule(Mono.fromSupplier(Thread::currentThread)).block(TIMEOUT);
+
+            assertThat(thread).isNotSameAs(Thread.currentThread());
+            if (Runtime.version().feature() >= 21) {
+                assertThat(scheduler.getMode()).isEqualTo(SchedulingMode.VIRTUAL_THREADS);
+                assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+            } else {
+                assertThat(scheduler.getMode()).isEqualTo(SchedulingMode.BOUNDED_ELASTIC);
+                assertThat(thread.getName()).startsWith(FeatureLookupImpl.class.getName() + "-");
+            }
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Verifies: lookups are counted once subscribed, active ones until they either complete or fail")
+    void shouldCountLookups() {
+        var scheduler = create(SchedulingMode.INLINE);
+
+        var lookup = scheduler.schedule(Mono.fromSupplier(scheduler::getActive));
+        assertThat(scheduler.getSubmitted()).isZero();
+
+        assertThat(lookup.block(TIMEOUT)).isEqualTo(1);
+        assertThatThrownBy(() -> scheduler.schedule(Mono.error(new IllegalStateException("failed"))).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(scheduler.getSubmitted()).isEqualTo(2);
+        assertThat(scheduler.getCompleted()).isEqualTo(2);
+        assertThat(scheduler.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verifies: lookup running on the worker is counted as active until it completes")
+    void shouldCountActiveLookups() throws Exception {
+        var scheduler = create(SchedulingMode.SINGLE);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try {
+            var lookup = scheduler.schedule(Mono.fromCallable(() -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            })).subscribeOn(Schedulers.parallel()).toFuture();
+
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(scheduler.getSubmitted()).isEqualTo(1);
+            assertThat(scheduler.getActive()).isEqualTo(1);
+            assertThat(scheduler.getCompleted()).isZero();
+
+            release.countDown();
+            assertThat(lookup).succeedsWithin(TIMEOUT).isEqualTo(true);
+            // lookup is counted as completed once the result has been already delivered
+            awaitCompleted(scheduler, 1);
+            assertThat(scheduler.getActive()).isZero();
+            assertThat(scheduler.getCompleted()).isEqualTo(1);
+            assertThat(scheduler.getQueueWaitNanos()).isNotNegative();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    private static void awaitCompleted(FeatureLookupScheduler scheduler, long count) throws InterruptedException {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (scheduler.getCompleted() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static FeatureLookupScheduler create(SchedulingMode mode) {
+        return FeatureLookupScheduler.create(new SchedulingProperties(mode, 2, 2, 16));
+    }
+
+}
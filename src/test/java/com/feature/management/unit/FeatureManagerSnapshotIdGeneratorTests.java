@@ -0,0 +1,58 @@
+package com.feature.management.unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotIdGenerator;
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: FeatureManagerSnapshotIdGenerator issues collision-free snapshot identifiers")
+class FeatureManagerSnapshotIdGeneratorTests {
+
+    private static final int CONCURRENT_REQUESTS = 10_000;
+
+    private static final int WORKERS = 64;
+
+    @Test
+    @DisplayName("Verifies: concurrent requests never share snapshot identifier nor lose snapshot registration")
+    void shouldNotCollideUnderConcurrentRequests() throws Exception {
+        var registry = new FeatureManagerSnapshotRegistry<Object>();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(WORKERS);
+
+        try {
+            List<Future<Boolean>> registrations = new ArrayList<>(CONCURRENT_REQUESTS);
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                registrations.add(executor.submit(() -> {
+                    start.await();
+                    var id = FeatureManagerSnapshotIdGenerator.nextId();
+                    return ids.add(id) && registry.register(id, new Object());
+                }));
+            }
+            start.countDown();
+
+            for (Future<Boolean> registration : registrations) {
+                assertThat(registration.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(CONCURRENT_REQUESTS)
+                .allMatch(id -> id.startsWith(FeatureManagerSnapshotIdGenerator.SNAPSHOT_ID_PREFIX));
+        assertThat(registry.size()).isEqualTo(CONCURRENT_REQUESTS);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.feature.management.unit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.snapshot.FeatureManagerSnapshotRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: FeatureManagerSnapshotRegistry shares snapshots according to the configured epoch")
+class FeatureManagerSnapshotRegistryTests {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final Supplier<Object> snapshotSupplier = () -> "snapshot-" + created.incrementAndGet();
+
+    @Test
+    @DisplayName("Verifies: dedicated snapshot is taken per request upon the first lookup when no epoch is configured")
+    void shouldTakeSnapshotPerRequest() {
+        var registry = new FeatureManagerSnapshotRegistry<>();
+
+        registry.register("first", snapshotSupplier);
+        registry.register("second", snapshotSupplier);
+        registry.register("unused", snapshotSupplier);
+        assertThat(created).hasValue(0);
+
+        assertThat(registry.get("first")).isNotEqualTo(registry.get("second"));
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Verifies: requests within the same epoch share snapshot released by the last request")
+    void shouldShareSnapshotWithinEpoch() {
+        var epoch = new AtomicLong();
+        var registry = new FeatureManagerSnapshotRegistry<>(epoch::get);
+
+        registry.register("first", snapshotSupplier);
+        registry.register("second", snapshotSupplier);
+        assertThat(registry.get("first")).isSameAs(registry.get("second"));
+
+        epoch.incrementAndGet();
+        registry.register("third", snapshotSupplier);
+        assertThat(registry.get("third")).isNotEqualTo(registry.get("first"));
+
+        registry.unregister("third");
+        registry.register("fourth", snapshotSupplier);
+        assertThat(registry.get("fourth")).isEqualTo("snapshot-3");
+
+        registry.unregister("fourth");
+        registry.register("fifth", snapshotSupplier);
+        assertThat(registry.get("fifth")).isEqualTo("snapshot-4");
+        assertThat(created).hasValue(4);
+    }
+
+}
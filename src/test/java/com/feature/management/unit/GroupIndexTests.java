@@ -0,0 +1,86 @@
+package com.feature.management.unit;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.FeatureUserContext;
+import com.bootstrap.feature.management.targeting.GroupIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: GroupIndex interns group names into stable ids and matches groups by bitsets")
+class GroupIndexTests {
+
+    @Test
+    @DisplayName("Verifies: next index version keeps ids of already interned groups")
+    void shouldKeepIdsAcrossVersions() {
+        var builder = GroupIndex.empty(true).toBuilder();
+        var beta = builder.addAll(List.of("Beta"));
+        var current = builder.build();
+
+        var nextBuilder = current.toBuilder();
+        IntStream.range(0, 100).forEach(i -> nextBuilder.add("group-" + i));
+        var next = nextBuilder.build();
+
+        assertThat(next.id("BETA")).isEqualTo(current.id("beta")).isZero();
+        assertThat(next.size()).isEqualTo(101);
+        assertThat(next.membership(FeatureUserContext.of("user", Set.of("beta"))).intersects(beta)).isTrue();
+        assertThat(current.toBuilder().build()).isSameAs(current);
+    }
+
+    @Test
+    @DisplayName("Verifies: retired ids are bounded under group churn by interning groups from scratch")
+    void shouldCompactRetiredIds() {
+        var index = GroupIndex.empty(true);
+        var compactions = 0;
+        for (int version = 0; version < 100; version++) {
+            var builder = index.toBuilder();
+            var round = version;
+            IntStream.range(0, 50).forEach(i -> builder.add("group-" + round + "-" + i));
+            if (builder.isSparse()) {
+                var compacted = builder.compact();
+                IntStream.range(0, 50).forEach(i -> compacted.add("group-" + round + "-" + i));
+                assertThat(compacted.isSparse()).isFalse();
+                index = compacted.build();
+                compactions++;
+            } else {
+                index = builder.build();
+            }
+
+            assertThat(index.size()).isLessThanOrEqualTo(2 * 50 + GroupIndex.MAXIMUM_RETIRED_IDS);
+            assertThat(index.id("GROUP-" + round + "-49")).isNotNegative();
+        }
+
+        assertThat(compactions).isPositive();
+        assertThat(index.id("group-0-0")).isEqualTo(-1);
+        var stable = index.toBuilder();
+        IntStream.range(0, 50).forEach(i -> stable.add("group-99-" + i));
+        assertThat(stable.isSparse()).isFalse();
+        assertThat(stable.build()).isSameAs(index);
+    }
+
+    @Test
+    @DisplayName("Verifies: membership is resolved per user context and index version")
+    void shouldResolveMembership() {
+        var builder = GroupIndex.empty(false).toBuilder();
+        IntStream.range(0, 70).forEach(i -> builder.add("group-" + i));
+        var audience = builder.addAll(List.of("group-69"));
+        var index = builder.build();
+
+        var member = FeatureUserContext.of("user", List.of("unknown", "group-69"));
+        var membership = index.membership(member);
+
+        assertThat(membership.ids()).containsExactly(-1, 69);
+        assertThat(membership.intersects(audience)).isTrue();
+        assertThat(index.membership(member)).isSameAs(membership);
+        assertThat(index.membership(FeatureUserContext.of("user", List.of("GROUP-69"))).intersects(audience))
+                .isFalse();
+        assertThat(GroupIndex.contains(audience, 69)).isTrue();
+        assertThat(GroupIndex.contains(audience, 5)).isFalse();
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.feature.management.unit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.cache.OffHeapBooleanCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: OffHeapBooleanCache holds boolean values off-heap within its capacity")
+class OffHeapBooleanCacheTests {
+
+    @Test
+    @DisplayName("Verifies: values are put, replaced and removed by fixed width keys")
+    void shouldPutAndRemoveValues() {
+        var cache = new OffHeapBooleanCache<Key>(OffHeapBooleanCache.SLOT_SIZE * 1_024L);
+        var key = new Key(1, 2, 3);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.put(key, true)).isNull();
+        assertThat(cache.put(new Key(4, 5, 6), false)).isNull();
+        assertThat(cache.get(new Key(1, 2, 3))).isTrue();
+        assertThat(cache.get(new Key(1, 2, 4))).isNull();
+        assertThat(cache.get(new Key(4, 5, 6))).isFalse();
+        assertThat(cache.get("user")).isNull();
+
+        assertThat(cache.put(key, false)).isTrue();
+        assertThat(cache.get(key)).isFalse();
+        assertThat(cache.remove(key)).isFalse();
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.get(new Key(4, 5, 6))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verifies: entries are evicted once capacity is exceeded and recently read ones are preferred")
+    void shouldEvictWithinCapacity() {
+        var cache = new OffHeapBooleanCache<Key>(OffHeapBooleanCache.SLOT_SIZE * 1_024L);
+        IntStream.range(0, 256).forEach(i -> cache.put(new Key(0, i, 0), true));
+
+        IntStream.range(1_000, 21_000).forEach(i -> {
+            cache.put(new Key(0, i, 0), false);
+            IntStream.range(0, 256).forEach(hot -> cache.get(new Key(0, hot, 0)));
+        });
+
+        assertThat(cache.getMaximumSize()).isEqualTo(1_024);
+        assertThat(cache.size()).isLessThanOrEqualTo(cache.getMaximumSize());
+        assertThat(IntStream.range(0, 256).filter(i -> cache.get(new Key(0, i, 0)) != null).count())
+                .isGreaterThanOrEqualTo(240);
+    }
+
+    @Test
+    @DisplayName("Verifies: concurrent reads and writes keep cache bounded and consistent")
+    void shouldStayBoundedUnderConcurrency() {
+        var cache = new OffHeapBooleanCache<Key>(OffHeapBooleanCache.SLOT_SIZE * 256L);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8).mapToObj(worker -> CompletableFuture.runAsync(() -> {
+                var random = ThreadLocalRandom.current();
+                for (int i = 0; i < 100_000; i++) {
+                    var user = random.nextInt(2_048);
+                    var value = cache.get(new Key(0, user, 0));
+                    assertThat(value == null || value == (user % 2 == 0)).isTrue();
+                    if (value == null) {
+                        cache.put(new Key(0, user, 0), user % 2 == 0);
+                    } else if (i % 64 == 0) {
+                        cache.remove(new Key(0, user, 0));
+                    }
+                }
+            }, executor)).toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isBetween(0L, 256L);
+    }
+
+    private record Key(long revision, long user, long groups) implements OffHeapBooleanCache.FixedWidthKey {
+
+        @Override
+        public long word(int index) {
+            return switch (index) {
+                case 0 -> revision;
+                case 1 -> user;
+                default -> groups;
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.feature.management.unit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import com.azure.spring.cloud.feature.manager.entities.FeatureFilterEvaluationContext;
+import com.azure.spring.cloud.feature.manager.feature.filters.TargetingFilter;
+import com.azure.spring.cloud.feature.manager.targeting.TargetingContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import com.bootstrap.feature.management.targeting.RolloutBucketing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: RolloutBucketing yields exactly the same buckets as TargetingFilter")
+class RolloutBucketingTests {
+
+    private static final int USERS = 4_096;
+
+    private static final int EXHAUSTIVE_USERS = 1 << 20;
+
+    private static final String FEATURE_NAME = "rollout_feature";
+
+    private static final String GROUP = "beta";
+
+    private static final byte[] FEATURE_SEED = FEATURE_NAME.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] GROUP_SUFFIX = ("\n" + GROUP).getBytes(StandardCharsets.UTF_8);
+
+    private final SplittableRandom random = new SplittableRandom(20240917L);
+
+    private final TargetingContext targetingContext = new TargetingContext();
+
+    private final TargetingFilter targetingFilter = new TargetingFilter(() -> Mono.just(targetingContext));
+
+    @Test
+    @DisplayName("Verifies: default audience bucket boundary matches TargetingFilter for random users")
+    void shouldMatchDefaultAudienceBuckets() {
+        assertDefaultAudienceBuckets(USERS);
+    }
+
+    @Test
+    @DisplayName("Verifies: group audience rollout matches TargetingFilter for random users")
+    void shouldMatchGroupAudienceBuckets() {
+        assertGroupAudienceBuckets(USERS);
+    }
+
+    @Test
+    @DisplayName("Verifies: 0% and 100% rollouts as well as exact bucket boundary match TargetingFilter")
+    void shouldMatchBoundaryPercentages() {
+        for (int i = 0; i < 64; i++) {
+            var userId = randomUserId();
+            var userSeed = rolloutSeed(userId);
+            var bucket = RolloutBucketing.contextPercentage(userSeed, FEATURE_SEED, null);
+
+            assertThat(RolloutBucketing.isTargeted(0, userSeed, FEATURE_SEED)).isFalse();
+            assertThat(isTargeted(userId, List.of(), Map.of("defaultRolloutPercentage", 0))).isFalse();
+            assertThat(RolloutBucketing.isTargeted(100, userSeed, FEATURE_SEED)).isTrue();
+            assertThat(isTargeted(userId, List.of(), Map.of("defaultRolloutPercentage", 100))).isTrue();
+            assertThat(RolloutBucketing.isTargeted(bucket, userSeed, FEATURE_SEED))
+                    .as("user '%s' at bucket %s", userId, bucket).isFalse();
+            assertThat(RolloutBucketing.isTargeted(Math.nextUp(bucket), userSeed, FEATURE_SEED))
+                    .as("user '%s' above bucket %s", userId, bucket).isTrue();
+            assertThat(RolloutBucketing.isTargeted(0, userSeed, FEATURE_SEED, GROUP_SUFFIX)).isFalse();
+            assertThat(RolloutBucketing.isTargeted(100, userSeed, FEATURE_SEED, GROUP_SUFFIX)).isTrue();
+        }
+    }
+
+    /**
+     * Parity sweep over a million users, excluded from the default test task, run by {@code ./gradlew exhaustiveTest}.
+     */
+    @Test
+    @Tag("exhaustive")
+    @DisplayName("Verifies: default and group audience buckets match TargetingFilter for a million random users")
+    void shouldMatchBucketsExhaustively() {
+        assertDefaultAudienceBuckets(EXHAUSTIVE_USERS);
+        assertGroupAudienceBuckets(EXHAUSTIVE_USERS);
+    }
+
+    private void assertDefaultAudienceBuckets(int users) {
+        for (int i = 0; i < users; i++) {
+            var userId = randomUserId();
+            var bucket = RolloutBucketing.contextPercentage(rolloutSeed(userId), FEATURE_SEED, null);
+
+            assertThat(isTargeted(userId, List.of(), Map.of("defaultRolloutPercentage", bucket)))
+                    .as("user '%s' at bucket %s", userId, bucket).isFalse();
+            assertThat(isTargeted(userId, List.of(), Map.of("defaultRolloutPercentage", Math.nextUp(bucket))))
+                    .as("user '%s' above bucket %s", userId, bucket).isTrue();
+        }
+    }
+
+    private void assertGroupAudienceBuckets(int users) {
+        for (int i = 0; i < users; i++) {
+            var userId = randomUserId();
+            var percentage = random.nextInt(101);
+            var expected = isTargeted(userId, List.of(GROUP), Map.of("groups",
+                    Map.of("0", Map.of("name", GROUP, "rolloutPercentage", percentage))));
+
+            assertThat(RolloutBucketing.isTargeted(percentage, rolloutSeed(userId), FEATURE_SEED, GROUP_SUFFIX)
+                    || RolloutBucketing.isTargeted(0, rolloutSeed(userId), FEATURE_SEED))
+                    .as("user '%s' at %s%%", userId, percentage).isEqualTo(expected);
+        }
+    }
+
+    private boolean isTargeted(String userId, List<String> groups, Map<String, Object> audience) {
+        targetingContext.setUserId(userId);
+        targetingContext.setGroups(new ArrayList<>(groups));
+
+        var context = new FeatureFilterEvaluationContext();
+        context.setFeatureName(FEATURE_NAME);
+        context.setParameters(new LinkedHashMap<>(Map.of("Audience", audience)));
+        return targetingFilter.evaluate(context);
+    }
+
+    private String randomUserId() {
+        return switch (random.nextInt(3)) {
+            case 0 -> new UUID(random.nextLong(), random.nextLong()).toString();
+            case 1 -> Long.toString(random.nextLong(), Character.MAX_RADIX);
+            default -> "user-" + (char) ('\u00E0' + random.nextInt(64)) + random.nextInt(1_000_000);
+        };
+    }
+
+    private static byte[] rolloutSeed(String userId) {
+        return (userId + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.feature.management.unit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bootstrap.feature.management.targeting.BloomFilterPolicy;
+import com.bootstrap.feature.management.targeting.BloomFilterStatistics;
+import com.bootstrap.feature.management.targeting.UserIdIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Verifies: UserIdIndex matches targeted users the same way as set of strings")
+class UserIdIndexTests {
+
+    @Test
+    @DisplayName("Verifies: UUID and non UUID identifiers are matched")
+    void shouldMatchTargetedUsers() {
+        var random = new SplittableRandom(16L);
+        var users = IntStream.range(0, 10_000)
+                .mapToObj(i -> new UUID(random.nextLong(), random.nextLong()).toString())
+                .toList();
+        var targeted = new ArrayList<>(users);
+        targeted.add("Test_User");
+        targeted.add(users.get(0));
+        var index = UserIdIndex.of(targeted, true);
+
+        assertThat(index.size()).isEqualTo(10_001);
+        assertThat(users).allMatch(index::contains);
+        assertThat(index.contains("test_user")).isTrue();
+        assertThat(index.contains(new UUID(random.nextLong(), random.nextLong()).toString())).isFalse();
+        assertThat(index.contains("00000000-0000-0000-0000-00000000000g")).isFalse();
+
+        var reordered = new ArrayList<>(users);
+        Collections.reverse(reordered);
+        reordered.add("TEST_USER");
+        assertThat(UserIdIndex.of(reordered, true)).isEqualTo(index).hasSameHashCodeAs(index);
+    }
+
+    @Test
+    @DisplayName("Verifies: case-sensitive index distinguishes identifiers differing by case")
+    void shouldRespectCaseSensitivity() {
+        var user = UUID.randomUUID().toString();
+        var index = UserIdIndex.of(List.of(user, "Test_User"), false);
+
+        assertThat(index.contains(user)).isTrue();
+        assertThat(index.contains(user.toUpperCase(Locale.ROOT))).isFalse();
+        assertThat(index.contains("Test_User")).isTrue();
+        assertThat(index.contains("test_user")).isFalse();
+        assertThat(UserIdIndex.of(List.of(user.toUpperCase(Locale.ROOT)), true).contains(user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verifies: Bloom filter pre-check rejects non targeted users within configured false positive rate")
+    void shouldPreCheckLargeAudience() {
+        var random = new SplittableRandom(17L);
+        var statistics = new BloomFilterStatistics();
+        var users = IntStream.range(0, 20_000)
+                .mapToObj(i -> i % 2 == 0 ? new UUID(random.nextLong(), random.nextLong()).toString() : "user-" + i)
+                .toList();
+        var index = UserIdIndex.of(users, true, new BloomFilterPolicy(true, 0.01, 10_000, statistics));
+
+        assertThat(index.isPreChecked()).isTrue();
+        assertThat(users).allMatch(index::contains);
+        assertThat(statistics.getFalsePositives()).isZero();
+
+        var probes = 100_000;
+        IntStream.range(0, probes).forEach(i -> assertThat(index.contains(i % 2 == 0
+                ? new UUID(random.nextLong(), random.nextLong()).toString() : "another-user-" + i)).isFalse());
+        assertThat(statistics.getRejected() + statistics.getFalsePositives()).isEqualTo(probes);
+        assertThat(statistics.getFalsePositives()).isLessThan(probes / 50);
+        assertThat(UserIdIndex.of(users.subList(0, 100), true, new BloomFilterPolicy(true, 0.01, 10_000,
+                statistics)).isPreChecked()).isFalse();
+    }
+
+}